@@ -0,0 +1,134 @@
+package com.lending.app.benchmark;
+
+import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.LoanTransaction;
+import com.lending.app.model.enums.Role;
+import com.lending.app.repository.InstallmentRepository;
+import com.lending.app.util.UlidUtils;
+import de.huxhorn.sulky.ulid.ULID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads users, loans, loan transactions and their installment schedules through JDBC
+ * batches, so seeding a million rows does not go through the JPA layer. Schedules go through
+ * {@link InstallmentRepository#insertAll}, the same path a new transaction takes. Ids are handed
+ * back in their ULID text form and bound as {@code uuid}, the way the entities store them.
+ */
+public class BenchmarkDataSeeder {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int BORROWER_SCORE = 1_000_000_000;
+    private static final int NUMBER_OF_INSTALLMENTS = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InstallmentRepository installmentRepository;
+    private final ULID ulid = new ULID();
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    public BenchmarkDataSeeder(JdbcTemplate jdbcTemplate, InstallmentRepository installmentRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.installmentRepository = installmentRepository;
+    }
+
+    public String[] seedUsers(int count) {
+        String[] ids = newIds(count);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        insert("INSERT INTO users (id, created_at, updated_at, username, password, email, role, score) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                count, i -> new Object[]{
+                        UlidUtils.toUuid(ids[i]), now, now, "bench_user_" + i, "{noop}password", "bench_user_" + i + "@example.com",
+                        Role.USER.name(), BORROWER_SCORE
+                });
+        return ids;
+    }
+
+    public String[] seedLoans(int count) {
+        String[] ids = newIds(count);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        insert("INSERT INTO loan (id, created_at, updated_at, name, amount, number_of_installments, " +
+                        "each_installment_amount, required_score, award_score) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                count, i -> new Object[]{
+                        UlidUtils.toUuid(ids[i]), now, now, "bench_loan_" + i, 12_000L, NUMBER_OF_INSTALLMENTS, 1_200L, 10, 120
+                });
+        return ids;
+    }
+
+    /**
+     * Seeds loan transactions, each with its full unpaid schedule of one installment a month, and
+     * returns the transaction ids alongside the borrower that owns each of them.
+     */
+    public String[][] seedLoanTransactions(int count, String[] userIds, String[] loanIds) {
+        String[] ids = newIds(count);
+        String[] borrowers = new String[count];
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        LocalDateTime startDate = LocalDateTime.now();
+
+        insert("INSERT INTO loan_transaction (id, created_at, updated_at, borrower_id, loan_id, start_date, paid_amount) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                count, i -> {
+                    borrowers[i] = userIds[random.nextInt(userIds.length)];
+                    return new Object[]{
+                            UlidUtils.toUuid(ids[i]), now, now, UlidUtils.toUuid(borrowers[i]),
+                            UlidUtils.toUuid(loanIds[random.nextInt(loanIds.length)]), Timestamp.valueOf(startDate), 0L
+                    };
+                });
+        seedSchedules(ids, startDate);
+        return new String[][]{ids, borrowers};
+    }
+
+    private void seedSchedules(String[] transactionIds, LocalDateTime startDate) {
+        List<Installment> batch = new ArrayList<>(BATCH_SIZE + NUMBER_OF_INSTALLMENTS);
+        for (String transactionId : transactionIds) {
+            LoanTransaction transaction = new LoanTransaction();
+            transaction.setId(transactionId);
+            for (int month = 1; month <= NUMBER_OF_INSTALLMENTS; month++) {
+                Installment installment = new Installment();
+                installment.setLoanTransaction(transaction);
+                installment.setDueDate(startDate.plusMonths(month));
+                batch.add(installment);
+            }
+            if (batch.size() >= BATCH_SIZE) {
+                installmentRepository.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            installmentRepository.insertAll(batch);
+        }
+    }
+
+    private String[] newIds(int count) {
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ulid.nextULID();
+        }
+        return ids;
+    }
+
+    private void insert(String sql, int count, RowFactory rowFactory) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(rowFactory.row(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] row(int index);
+    }
+}
@@ -0,0 +1,64 @@
+package com.lending.app.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent loan applications over HTTP, comparing throughput and tail latency of Tomcat
+ * and the task executor on platform threads against virtual threads ({@code mode} parameter).
+ * Raise {@code -t} above Tomcat's 200 worker threads to see the platform pool saturate.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(64)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ExecutionModeBenchmark {
+
+    @State(Scope.Thread)
+    public static class Caller {
+        private final SplittableRandom random = new SplittableRandom();
+        private HttpClient client;
+        private URI uri;
+        private String[] tokens;
+        private String[] loanIds;
+
+        @Setup(Level.Trial)
+        public void setUp(ExecutionModeState state) {
+            client = state.client;
+            uri = URI.create(state.baseUrl + "/api/operation/loan");
+            tokens = state.tokens;
+            loanIds = state.loanIds;
+        }
+    }
+
+    @Benchmark
+    public int applyForLoan(Caller caller) throws IOException, InterruptedException {
+        String loanId = caller.loanIds[caller.random.nextInt(caller.loanIds.length)];
+        HttpRequest request = HttpRequest.newBuilder(caller.uri)
+                .header("Authorization", "Bearer " + caller.tokens[caller.random.nextInt(caller.tokens.length)])
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"loanId\":\"" + loanId + "\"}"))
+                .build();
+        return caller.client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
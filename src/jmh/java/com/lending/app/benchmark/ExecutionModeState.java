@@ -0,0 +1,53 @@
+package com.lending.app.benchmark;
+
+import com.lending.app.security.JwtService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.http.HttpClient;
+import java.util.Map;
+
+/**
+ * Variant of {@link LendingBenchmarkState} that serves HTTP on a random port, running request
+ * handling and the task executor on either platform or virtual threads.
+ */
+@State(Scope.Benchmark)
+public class ExecutionModeState extends LendingBenchmarkState {
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param("1000")
+    public int authenticatedUsers;
+
+    public HttpClient client;
+    public String baseUrl;
+    public String[] tokens;
+
+    @Override
+    protected String[] bootArguments() {
+        return new String[]{
+                "--spring.profiles.active=benchmark",
+                "--spring.main.web-application-type=servlet",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + "virtual".equals(mode)
+        };
+    }
+
+    @Setup(Level.Trial)
+    public void connect() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        JwtService jwtService = bean(JwtService.class);
+        tokens = new String[Math.min(authenticatedUsers, userIds.length)];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = jwtService.generateToken("bench_user_" + i, Map.of("uid", userIds[i]));
+        }
+    }
+}
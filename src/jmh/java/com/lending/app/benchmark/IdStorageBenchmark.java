@@ -0,0 +1,159 @@
+package com.lending.app.benchmark;
+
+import com.lending.app.util.UlidUtils;
+import de.huxhorn.sulky.ulid.ULID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Join latency of the same parent/child schema keyed by ULID text in {@code varchar(26)} against
+ * ULID bits in {@code uuid}, shaped like {@code users} and {@code loan_transaction}. Each call
+ * looks up one random parent and counts its children through the foreign key index. Runs on
+ * embedded H2 by default; pass {@code -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/lending
+ * -Dbench.jdbc.user=... -Dbench.jdbc.password=...} through {@code -jvmArgsAppend} to measure the
+ * real planner, in which case the table and index sizes of each layout are printed during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdStorageBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int CHILDREN_PER_PARENT = 4;
+
+    @Param({"varchar", "uuid"})
+    public String idType;
+
+    @Param("250000")
+    public int parents;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private Connection connection;
+    private PreparedStatement join;
+    private String[] parentIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:idstorage;DB_CLOSE_DELAY=-1;MODE=PostgreSQL"),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", "")
+        );
+        String column = "uuid".equals(idType) ? "uuid" : "varchar(26)";
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS bench_child");
+            ddl.execute("DROP TABLE IF EXISTS bench_parent");
+            ddl.execute("CREATE TABLE bench_parent (id " + column + " PRIMARY KEY, score integer NOT NULL)");
+            ddl.execute("CREATE TABLE bench_child (id " + column + " PRIMARY KEY, parent_id " + column
+                    + " NOT NULL REFERENCES bench_parent (id), amount bigint NOT NULL)");
+            ddl.execute("CREATE INDEX idx_bench_child_parent ON bench_child (parent_id)");
+        }
+
+        ULID ulid = new ULID();
+        parentIds = new String[parents];
+        connection.setAutoCommit(false);
+        try (PreparedStatement parent = connection.prepareStatement("INSERT INTO bench_parent (id, score) VALUES (?, ?)");
+             PreparedStatement child = connection.prepareStatement("INSERT INTO bench_child (id, parent_id, amount) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < parents; i++) {
+                parentIds[i] = ulid.nextULID();
+                bindId(parent, 1, parentIds[i]);
+                parent.setInt(2, i);
+                parent.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    parent.executeBatch();
+                }
+            }
+            parent.executeBatch();
+            for (int i = 0; i < parents * CHILDREN_PER_PARENT; i++) {
+                bindId(child, 1, ulid.nextULID());
+                bindId(child, 2, parentIds[random.nextInt(parents)]);
+                child.setLong(3, i);
+                child.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    child.executeBatch();
+                }
+            }
+            child.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement analyze = connection.createStatement()) {
+            analyze.execute("ANALYZE");
+        }
+        printSizes();
+
+        join = connection.prepareStatement("""
+                SELECT COUNT(*), SUM(c.amount)
+                FROM bench_parent p
+                JOIN bench_child c ON c.parent_id = p.id
+                WHERE p.id = ?
+                """);
+    }
+
+    @Benchmark
+    public long joinByParent() throws SQLException {
+        bindId(join, 1, parentIds[random.nextInt(parents)]);
+        try (ResultSet rs = join.executeQuery()) {
+            rs.next();
+            return rs.getLong(1) + rs.getLong(2);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE bench_child");
+            ddl.execute("DROP TABLE bench_parent");
+        }
+        connection.close();
+    }
+
+    private void bindId(PreparedStatement statement, int index, String id) throws SQLException {
+        if ("uuid".equals(idType)) {
+            statement.setObject(index, UlidUtils.toUuid(id));
+        } else {
+            statement.setString(index, id);
+        }
+    }
+
+    private void printSizes() throws SQLException {
+        if (!connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+            return;
+        }
+        try (Statement query = connection.createStatement();
+             ResultSet rs = query.executeQuery("""
+                     SELECT c.relname, pg_size_pretty(pg_relation_size(c.oid))
+                     FROM pg_class c
+                     WHERE c.relname IN ('bench_parent', 'bench_parent_pkey', 'bench_child', 'bench_child_pkey', 'idx_bench_child_parent')
+                     ORDER BY c.relname
+                     """)) {
+            while (rs.next()) {
+                System.out.printf("[%s] %s: %s%n", idType, rs.getString(1), rs.getString(2));
+            }
+        }
+    }
+}
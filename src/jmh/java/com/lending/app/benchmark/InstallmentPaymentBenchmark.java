@@ -0,0 +1,60 @@
+package com.lending.app.benchmark;
+
+import com.lending.app.application.processor.InstallmentPaymentProcessor;
+import com.lending.app.model.record.loan.LoanApplicationMessage;
+import com.lending.app.model.record.loan.LoanInstallmentCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput and latency distribution of {@link InstallmentPaymentProcessor#process}.
+ * Every invocation pays the earliest open installment of the next seeded transaction. Each
+ * seeded transaction carries its full schedule, so the cursor wraps around to the following
+ * month; a run that outlasts every schedule starts failing with no payable installment rather
+ * than paying an installment twice.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class InstallmentPaymentBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Cursor {
+        private final AtomicInteger next = new AtomicInteger();
+        private InstallmentPaymentProcessor processor;
+        private String[] transactionIds;
+        private String[] borrowerIds;
+
+        @Setup(Level.Trial)
+        public void setUp(LendingBenchmarkState state) {
+            processor = state.bean(InstallmentPaymentProcessor.class);
+            transactionIds = state.transactionIds;
+            borrowerIds = state.transactionBorrowerIds;
+        }
+
+        int next() {
+            return Math.floorMod(next.getAndIncrement(), transactionIds.length);
+        }
+    }
+
+    @Benchmark
+    public LoanApplicationMessage pay(Cursor cursor) {
+        int index = cursor.next();
+        LendingBenchmarkState.authenticateAs(cursor.borrowerIds[index]);
+        return cursor.processor.process(new LoanInstallmentCommand(cursor.transactionIds[index]));
+    }
+}
@@ -0,0 +1,76 @@
+package com.lending.app.benchmark;
+
+import com.lending.app.Application;
+import com.lending.app.model.util.UserPrincipal;
+import com.lending.app.repository.InstallmentRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+/**
+ * Boots the application once per trial against the {@code benchmark} profile and seeds
+ * it with production-like volumes. Volumes are JMH parameters, e.g. {@code -p transactions=100000}
+ * for a quicker local run.
+ */
+@State(Scope.Benchmark)
+public class LendingBenchmarkState {
+
+    @Param("100000")
+    public int users;
+
+    @Param("1000")
+    public int loans;
+
+    @Param("1000000")
+    public int transactions;
+
+    public ConfigurableApplicationContext context;
+    public String[] userIds;
+    public String[] loanIds;
+    public String[] transactionIds;
+    public String[] transactionBorrowerIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(Application.class)
+                .run(bootArguments());
+
+        BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(context.getBean(JdbcTemplate.class), context.getBean(InstallmentRepository.class));
+        userIds = seeder.seedUsers(users);
+        loanIds = seeder.seedLoans(loans);
+        String[][] seeded = seeder.seedLoanTransactions(transactions, userIds, loanIds);
+        transactionIds = seeded[0];
+        transactionBorrowerIds = seeded[1];
+    }
+
+    protected String[] bootArguments() {
+        return new String[]{"--spring.profiles.active=benchmark"};
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public static void authenticateAs(String userId) {
+        UserPrincipal principal = new UserPrincipal(userId, userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+    }
+}
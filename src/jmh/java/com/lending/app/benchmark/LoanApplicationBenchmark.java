@@ -0,0 +1,53 @@
+package com.lending.app.benchmark;
+
+import com.lending.app.application.processor.LoanApplicationProcessor;
+import com.lending.app.model.record.loan.LoanApplicationCommand;
+import com.lending.app.model.record.loan.LoanApplicationMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency distribution (see the p0.99 row of the sample-time mode)
+ * of {@link LoanApplicationProcessor#process} for a random borrower and loan.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LoanApplicationBenchmark {
+
+    @State(Scope.Thread)
+    public static class Caller {
+        private final SplittableRandom random = new SplittableRandom();
+        private LoanApplicationProcessor processor;
+        private String[] userIds;
+        private String[] loanIds;
+
+        @Setup(Level.Trial)
+        public void setUp(LendingBenchmarkState state) {
+            processor = state.bean(LoanApplicationProcessor.class);
+            userIds = state.userIds;
+            loanIds = state.loanIds;
+        }
+    }
+
+    @Benchmark
+    public LoanApplicationMessage apply(Caller caller) {
+        LendingBenchmarkState.authenticateAs(caller.userIds[caller.random.nextInt(caller.userIds.length)]);
+        String loanId = caller.loanIds[caller.random.nextInt(caller.loanIds.length)];
+        return caller.processor.process(new LoanApplicationCommand(loanId, null));
+    }
+}
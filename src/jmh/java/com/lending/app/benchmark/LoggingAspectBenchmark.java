@@ -0,0 +1,112 @@
+package com.lending.app.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.lending.app.application.service.LoanService;
+import com.lending.app.application.service.impl.LoanServiceImpl;
+import com.lending.app.aspect.LoggingAspect;
+import com.lending.app.config.NoOpAggregateCache;
+import com.lending.app.mapper.LoanMapperImpl;
+import com.lending.app.model.entity.Loan;
+import com.lending.app.model.record.loan.LoanMessage;
+import com.lending.app.repository.LoanRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost {@link LoggingAspect} adds to {@code LoanServiceImpl.get}, with the repository
+ * stubbed in memory so the advice is not hidden behind a database round trip. {@code direct}
+ * is the unproxied service, which is also what runs when the aspect is disabled. Add
+ * {@code -prof gc} to see allocation per call.
+ * <ul>
+ *   <li>{@code quiet}: aspect on, logger above debug, no slow threshold</li>
+ *   <li>{@code sampled}: logger at debug, one call in a thousand traced (events are discarded)</li>
+ *   <li>{@code slow-threshold}: logger above debug, every call timed against a 1s threshold</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingAspectBenchmark {
+
+    private static final String LOAN_ID = "01J8Z3K4QW0000000000000001";
+
+    @Param({"direct", "quiet", "sampled", "slow-threshold"})
+    public String mode;
+
+    private final Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private ch.qos.logback.classic.Level previousLevel;
+    private LoanService loanService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        previousLevel = aspectLogger.getLevel();
+        aspectLogger.setAdditive(false);
+        aspectLogger.setLevel("sampled".equals(mode) ? ch.qos.logback.classic.Level.DEBUG : ch.qos.logback.classic.Level.INFO);
+
+        LoanServiceImpl target = new LoanServiceImpl(stubRepository(), new LoanMapperImpl(), new NoOpAggregateCache<>());
+        loanService = switch (mode) {
+            case "direct" -> target;
+            case "quiet" -> proxied(target, new LoggingAspect(1.0, 0));
+            case "sampled" -> proxied(target, new LoggingAspect(0.001, 0));
+            case "slow-threshold" -> proxied(target, new LoggingAspect(1.0, 1000));
+            default -> throw new IllegalArgumentException("Unknown mode " + mode);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        aspectLogger.setLevel(previousLevel);
+        aspectLogger.setAdditive(true);
+    }
+
+    @Benchmark
+    public LoanMessage get() {
+        return loanService.get(LOAN_ID);
+    }
+
+    private static LoanService proxied(LoanServiceImpl target, LoggingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private static LoanRepository stubRepository() {
+        Loan loan = new Loan();
+        loan.setName("bench_loan_1");
+        loan.setAmount(12_000L);
+        loan.setNumberOfInstallments(12);
+        loan.setEachInstallmentAmount(1_000L);
+        loan.setAwardScore(120);
+        Optional<Loan> found = Optional.of(loan);
+        return (LoanRepository) Proxy.newProxyInstance(
+                LoanRepository.class.getClassLoader(),
+                new Class<?>[]{LoanRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return found;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,75 @@
+package com.lending.app.benchmark;
+
+import com.lending.app.config.BinaryRecordRedisSerializer;
+import com.lending.app.config.RecordCodecs;
+import com.lending.app.model.record.loan.LoanMessage;
+import com.lending.app.model.record.user.UserMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of the JSON cache serializer against the binary record serializer
+ * for one cached {@link LoanMessage} or {@link UserMessage}, the unit stored per cache key and
+ * per aggregate hash field. The encoded size of each combination is printed during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "binary"})
+    public String serializer;
+
+    @Param({"loan", "user"})
+    public String record;
+
+    private RedisSerializer<Object> redisSerializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        boolean loan = "loan".equals(record);
+        value = loan
+                ? new LoanMessage("01J8Z3K4QW0000000000000001", "bench_loan_1", 12_000L, 12, 10, 120)
+                : new UserMessage("01J8Z3K4QW0000000000000001", "bench_user_1", "bench_user_1@example.com", 250);
+
+        if ("json".equals(serializer)) {
+            redisSerializer = (RedisSerializer<Object>) (RedisSerializer<?>) new GenericJackson2JsonRedisSerializer();
+        } else if (loan) {
+            redisSerializer = (RedisSerializer<Object>) (RedisSerializer<?>) new BinaryRecordRedisSerializer<>(RecordCodecs.LOAN, 1024);
+        } else {
+            redisSerializer = (RedisSerializer<Object>) (RedisSerializer<?>) new BinaryRecordRedisSerializer<>(RecordCodecs.USER, 1024);
+        }
+        encoded = redisSerializer.serialize(value);
+        System.out.printf("%n%s %s: %d bytes%n", serializer, record, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return redisSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return redisSerializer.deserialize(encoded);
+    }
+}
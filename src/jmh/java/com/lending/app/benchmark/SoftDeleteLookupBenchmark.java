@@ -0,0 +1,169 @@
+package com.lending.app.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code existsByUsername}/{@code existsByEmail} checks against two layouts of a users table
+ * with a share of soft-deleted rows:
+ * <ul>
+ *   <li>{@code text-composite}: text {@code deleted_at} with {@code (username, deleted_at)} and
+ *   {@code (email, deleted_at)} indexes, as the schema used to be</li>
+ *   <li>{@code timestamptz-partial}: {@code timestamptz} {@code deleted_at} with unique indexes on
+ *   {@code username} and {@code email} over active rows only</li>
+ * </ul>
+ * H2 has no partial indexes, so there the second layout indexes every row; the numbers that
+ * matter come from PostgreSQL ({@code -Dbench.jdbc.url=... -Dbench.jdbc.user=... -Dbench.jdbc.password=...}
+ * through {@code -jvmArgsAppend}), where the size of each index is printed during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SoftDeleteLookupBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"text-composite", "timestamptz-partial"})
+    public String layout;
+
+    @Param("500000")
+    public int users;
+
+    @Param("0.3")
+    public double deletedShare;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private Connection connection;
+    private PreparedStatement existsByUsername;
+    private PreparedStatement existsByEmail;
+    private boolean postgres;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:softdelete;DB_CLOSE_DELAY=-1;MODE=PostgreSQL"),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", "")
+        );
+        postgres = connection.getMetaData().getDatabaseProductName().equals("PostgreSQL");
+        boolean text = "text-composite".equals(layout);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS bench_users");
+            ddl.execute("CREATE TABLE bench_users (id bigint PRIMARY KEY, username varchar(255) NOT NULL, "
+                    + "email varchar(255) NOT NULL, deleted_at " + (text ? "varchar(255)" : "timestamp with time zone") + ")");
+        }
+
+        connection.setAutoCommit(false);
+        LocalDateTime deletedAt = LocalDateTime.now().minusDays(1);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_users (id, username, email, deleted_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < users; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, "bench_user_" + i);
+                insert.setString(3, "bench_user_" + i + "@example.com");
+                boolean deleted = random.nextDouble() < deletedShare;
+                if (!deleted) {
+                    insert.setObject(4, null);
+                } else if (text) {
+                    insert.setString(4, deletedAt.plusNanos(i * 1_000L).toString());
+                } else {
+                    insert.setTimestamp(4, Timestamp.valueOf(deletedAt.plusNanos(i * 1_000L)));
+                }
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement ddl = connection.createStatement()) {
+            if (text) {
+                ddl.execute("CREATE INDEX bench_users_username ON bench_users (username, deleted_at)");
+                ddl.execute("CREATE INDEX bench_users_email ON bench_users (email, deleted_at)");
+            } else {
+                String active = postgres ? " WHERE deleted_at IS NULL" : "";
+                ddl.execute("CREATE INDEX bench_users_username ON bench_users (username)" + active);
+                ddl.execute("CREATE INDEX bench_users_email ON bench_users (email)" + active);
+            }
+            ddl.execute("ANALYZE");
+        }
+        printSizes();
+
+        existsByUsername = connection.prepareStatement(
+                "SELECT EXISTS (SELECT 1 FROM bench_users WHERE username = ? AND deleted_at IS NULL)");
+        existsByEmail = connection.prepareStatement(
+                "SELECT EXISTS (SELECT 1 FROM bench_users WHERE email = ? AND deleted_at IS NULL)");
+    }
+
+    @Benchmark
+    public boolean existsByUsername() throws SQLException {
+        existsByUsername.setString(1, "bench_user_" + random.nextInt(users));
+        return exists(existsByUsername);
+    }
+
+    @Benchmark
+    public boolean existsByEmail() throws SQLException {
+        existsByEmail.setString(1, "bench_user_" + random.nextInt(users) + "@example.com");
+        return exists(existsByEmail);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE bench_users");
+        }
+        connection.close();
+    }
+
+    private static boolean exists(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getBoolean(1);
+        }
+    }
+
+    private void printSizes() throws SQLException {
+        if (!postgres) {
+            return;
+        }
+        try (Statement query = connection.createStatement();
+             ResultSet rs = query.executeQuery("""
+                     SELECT c.relname, pg_size_pretty(pg_relation_size(c.oid))
+                     FROM pg_class c
+                     WHERE c.relname IN ('bench_users_username', 'bench_users_email')
+                     ORDER BY c.relname
+                     """)) {
+            while (rs.next()) {
+                System.out.printf("[%s] %s: %s%n", layout, rs.getString(1), rs.getString(2));
+            }
+        }
+    }
+}
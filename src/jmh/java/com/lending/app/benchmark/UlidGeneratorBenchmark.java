@@ -0,0 +1,38 @@
+package com.lending.app.benchmark;
+
+import com.lending.app.util.UlidUtils;
+import de.huxhorn.sulky.ulid.ULID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one id: a fresh {@code SecureRandom}-backed {@link ULID} per call, as entities and
+ * responses used to do, against the per-thread monotonic {@link UlidUtils#nextUlid()}. Run with
+ * {@code -t} to see how each scales across threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+public class UlidGeneratorBenchmark {
+
+    @Benchmark
+    public String newGeneratorPerCall() {
+        return new ULID().nextULID();
+    }
+
+    @Benchmark
+    public String perThreadMonotonic() {
+        return UlidUtils.nextUlid();
+    }
+}
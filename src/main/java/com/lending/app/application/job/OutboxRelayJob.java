@@ -0,0 +1,26 @@
+package com.lending.app.application.job;
+
+import com.lending.app.application.processor.OutboxRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OutboxRelayJob {
+
+    private final OutboxRelay outboxRelay;
+
+    public OutboxRelayJob(OutboxRelay outboxRelay) {
+        this.outboxRelay = outboxRelay;
+    }
+
+    @Scheduled(
+            initialDelayString = "${outbox.relay.interval-ms}",
+            fixedDelayString = "${outbox.relay.interval-ms}"
+    )
+    public void relay() {
+        log.debug("Running outbox relay");
+        outboxRelay.relay();
+    }
+}
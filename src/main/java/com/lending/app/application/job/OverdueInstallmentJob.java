@@ -0,0 +1,23 @@
+package com.lending.app.application.job;
+
+import com.lending.app.application.processor.OverdueInstallmentScanner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OverdueInstallmentJob {
+
+    private final OverdueInstallmentScanner overdueInstallmentScanner;
+
+    public OverdueInstallmentJob(OverdueInstallmentScanner overdueInstallmentScanner) {
+        this.overdueInstallmentScanner = overdueInstallmentScanner;
+    }
+
+    @Scheduled(cron = "${overdue.scan.cron}")
+    public void scan() {
+        log.debug("Running overdue installment scan");
+        overdueInstallmentScanner.scan();
+    }
+}
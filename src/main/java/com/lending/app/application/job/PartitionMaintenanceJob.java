@@ -0,0 +1,24 @@
+package com.lending.app.application.job;
+
+import com.lending.app.application.service.PartitionMaintenanceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class PartitionMaintenanceJob {
+
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    public PartitionMaintenanceJob(PartitionMaintenanceService partitionMaintenanceService) {
+        this.partitionMaintenanceService = partitionMaintenanceService;
+    }
+
+    @Scheduled(cron = "${partition.maintenance.cron}")
+    public void maintain() {
+        log.debug("Running partition maintenance");
+        partitionMaintenanceService.createPartitions();
+        partitionMaintenanceService.detachClosedPartitions();
+    }
+}
@@ -0,0 +1,124 @@
+package com.lending.app.application.processor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lending.app.application.service.ScoreLedgerService;
+import com.lending.app.application.service.UserService;
+import com.lending.app.model.entity.ScoreLedgerEntry;
+import com.lending.app.model.record.score.BonusEvent;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies installment bonus events relayed from the outbox, a whole delivery batch per
+ * transaction with the deltas coalesced per user. Delivery is at least once, possibly to two nodes
+ * at the same time, so each award is first inserted into the ledger under its unique
+ * (user, type, installment) key and only the awards that insert wins are paid.
+ */
+@Slf4j
+@Timed("lending.processor")
+@Component
+public class InstallmentBonusConsumer {
+
+    private final UserService userService;
+    private final ScoreLedgerService scoreLedgerService;
+    private final ObjectMapper objectMapper;
+
+    private final Counter applied;
+    private final Counter duplicates;
+    private final Counter malformed;
+    private final Counter coalesced;
+
+    public InstallmentBonusConsumer(
+            UserService userService,
+            ScoreLedgerService scoreLedgerService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.userService = userService;
+        this.scoreLedgerService = scoreLedgerService;
+        this.objectMapper = objectMapper;
+
+        this.applied = meterRegistry.counter("bonus.consumer.events", "outcome", "applied");
+        this.duplicates = meterRegistry.counter("bonus.consumer.events", "outcome", "duplicate");
+        this.malformed = meterRegistry.counter("bonus.consumer.events", "outcome", "malformed");
+        this.coalesced = meterRegistry.counter("bonus.consumer.coalesced");
+    }
+
+    /**
+     * Each payload is the JSON array of bonus events one installment payment produced. A payload
+     * that cannot be read is logged and left out rather than failing the batch, since no retry
+     * would make it readable; the rest of the batch is applied and the unreadable payloads are
+     * returned so the caller can dead-letter them.
+     */
+    @Transactional
+    public List<String> consume(List<String> payloads) {
+        List<BonusEvent> events = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        for (String payload : payloads) {
+            BonusEvent[] read = read(payload);
+            if (read == null) {
+                malformed.increment();
+                rejected.add(payload);
+            } else {
+                events.addAll(List.of(read));
+            }
+        }
+
+        List<ScoreLedgerEntry> awards = new ArrayList<>(events.size());
+        for (BonusEvent event : events) {
+            ScoreLedgerEntry award = new ScoreLedgerEntry();
+            award.setUserId(event.userId());
+            award.setType(event.type());
+            award.setDelta(event.delta());
+            award.setReferenceId(event.referenceId());
+            awards.add(award);
+        }
+        List<ScoreLedgerEntry> recorded = scoreLedgerService.recordAbsent(awards);
+        int fresh = recorded.size();
+        duplicates.increment(events.size() - fresh);
+        if (fresh < events.size()) {
+            log.debug("Skipped {} redelivered bonus events", events.size() - fresh);
+        }
+
+        Map<String, Integer> deltas = new LinkedHashMap<>();
+        for (ScoreLedgerEntry award : recorded) {
+            deltas.merge(award.getUserId(), award.getDelta(), Integer::sum);
+        }
+        if (deltas.isEmpty()) {
+            return rejected;
+        }
+
+        userService.changeScores(deltas);
+        applied.increment(fresh);
+        coalesced.increment(fresh - deltas.size());
+        log.info("Applied {} bonus events to {} users", fresh, deltas.size());
+        return rejected;
+    }
+
+    private BonusEvent[] read(String payload) {
+        BonusEvent[] events;
+        try {
+            events = objectMapper.readValue(payload, BonusEvent[].class);
+        } catch (JsonProcessingException e) {
+            log.error("Skipping malformed bonus payload: {}", payload, e);
+            return null;
+        }
+        for (BonusEvent event : events) {
+            if (event == null || event.userId() == null || event.referenceId() == null || event.type() == null) {
+                log.error("Skipping bonus payload with an incomplete event: {}", payload);
+                return null;
+            }
+        }
+        return events;
+    }
+}
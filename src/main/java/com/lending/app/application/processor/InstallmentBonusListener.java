@@ -0,0 +1,67 @@
+package com.lending.app.application.processor;
+
+import com.lending.app.config.RabbitConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A batch is acknowledged as a whole, so the payloads the consumer could not read are sent to the
+ * dead-letter exchange from here, confirmed before the batch is acked, instead of rejecting the
+ * batch and dead-lettering the good deliveries with them.
+ */
+@Slf4j
+@Component
+@Profile("amqp")
+public class InstallmentBonusListener {
+
+    private final InstallmentBonusConsumer installmentBonusConsumer;
+    private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMs;
+
+    public InstallmentBonusListener(
+            InstallmentBonusConsumer installmentBonusConsumer,
+            RabbitTemplate rabbitTemplate,
+            @Value("${outbox.amqp.confirm-timeout-ms}") long confirmTimeoutMs
+    ) {
+        this.installmentBonusConsumer = installmentBonusConsumer;
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    @RabbitListener(queues = RabbitConfig.INSTALLMENT_BONUS_QUEUE, containerFactory = "batchListenerContainerFactory")
+    public void onMessages(List<Message> messages) {
+        log.debug("Received {} installment bonus messages", messages.size());
+        Set<String> rejected = new HashSet<>(installmentBonusConsumer.consume(messages.stream()
+                .map(InstallmentBonusListener::body)
+                .toList()));
+        if (rejected.isEmpty()) {
+            return;
+        }
+
+        List<Message> deadLetters = messages.stream()
+                .filter(message -> rejected.contains(body(message)))
+                .toList();
+        rabbitTemplate.invoke(operations -> {
+            for (Message message : deadLetters) {
+                operations.send(RabbitConfig.DEAD_LETTER_EXCHANGE, RabbitConfig.INSTALLMENT_BONUS_QUEUE, message);
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+        log.warn("Dead-lettered {} malformed installment bonus messages", deadLetters.size());
+    }
+
+    private static String body(Message message) {
+        return new String(message.getBody(), StandardCharsets.UTF_8);
+    }
+}
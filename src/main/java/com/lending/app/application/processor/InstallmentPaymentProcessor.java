@@ -1,62 +1,62 @@
 package com.lending.app.application.processor;
 
 import com.lending.app.application.service.InstallmentService;
-import com.lending.app.application.service.LoanTransactionService;
-import com.lending.app.exception.NotFoundException;
+import com.lending.app.application.service.OutboxService;
 import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.Loan;
 import com.lending.app.model.entity.LoanTransaction;
-import com.lending.app.model.record.loan.LoanTransactionMessage;
+import com.lending.app.model.entity.User;
+import com.lending.app.model.enums.OutboxEventType;
+import com.lending.app.model.enums.ScoreTransactionType;
+import com.lending.app.model.record.score.BonusEvent;
 import com.lending.app.model.record.loan.LoanApplicationMessage;
 import com.lending.app.model.record.loan.LoanInstallmentCommand;
 import com.lending.app.util.CalculatorUtils;
 import com.lending.app.util.SecurityUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
+import java.util.List;
 
 @Slf4j
+@Timed("lending.processor")
 @Service
 public class InstallmentPaymentProcessor {
 
-    private final LoanTransactionService loanTransactionService;
     private final InstallmentService installmentService;
-    private final InstallmentAsyncProcessor installmentAsyncProcessor;
+    private final OutboxService outboxService;
 
-    public InstallmentPaymentProcessor(
-            LoanTransactionService loanTransactionService, InstallmentService installmentService,
-            InstallmentAsyncProcessor installmentAsyncProcessor
-    ) {
-        this.loanTransactionService = loanTransactionService;
+    public InstallmentPaymentProcessor(InstallmentService installmentService, OutboxService outboxService) {
         this.installmentService = installmentService;
-        this.installmentAsyncProcessor = installmentAsyncProcessor;
+        this.outboxService = outboxService;
     }
 
+    /**
+     * Pays the earliest open installment of the caller's loan transaction. The installment,
+     * transaction and loan arrive in one locked read, and both updates are left to the commit
+     * flush rather than written one by one. The schedule already exists, so nothing is created;
+     * the bonus goes to the outbox in the same commit and is applied by its consumer.
+     */
     @Transactional
     public LoanApplicationMessage process(LoanInstallmentCommand installmentCommand) {
         log.debug("Processing installment payment for loanTransactionId: {}", installmentCommand.loanTransactionId());
 
-        Installment installment = installmentService.findNotPaidInstallmentByLoanTransactionId(installmentCommand.loanTransactionId());
         String currentUserId = SecurityUtils.getCurrentUserId();
-        if (!Objects.equals(installment.getLoanTransaction().getBorrower().getId(), currentUserId)) {
-            log.warn("Installment payment failed: user {} not authorized for loanTransactionId {}", currentUserId, installmentCommand.loanTransactionId());
-            throw new NotFoundException("Loan");
-        }
+        Installment installment = installmentService.lockPayableInstallment(installmentCommand.loanTransactionId(), currentUserId);
 
         installment.setPaymentDate(LocalDateTime.now());
         installment.setPaid(true);
-        Installment savedInstallment = installmentService.saveAndFlush(installment);
-        log.info("Installment paid and saved with id: {}", savedInstallment.getId());
+        log.info("Installment marked as paid with id: {}", installment.getId());
 
         LoanTransaction loanTransaction = installment.getLoanTransaction();
-        long paidAmount = loanTransaction.getPaidAmount() + loanTransaction.getLoan().getEachInstallmentAmount();
+        Loan loan = loanTransaction.getLoan();
+        long paidAmount = loanTransaction.getPaidAmount() + loan.getEachInstallmentAmount();
         loanTransaction.setPaidAmount(paidAmount);
 
-        boolean isEnd = paidAmount >= CalculatorUtils.calculateMustPaidAmount(loanTransaction.getLoan().getAmount(), loanTransaction.getLoan().getNumberOfInstallments());
+        boolean isEnd = paidAmount >= CalculatorUtils.calculateMustPaidAmount(loan.getAmount(), loan.getNumberOfInstallments());
         if (isEnd) {
             loanTransaction.setEndDate(LocalDateTime.now());
             log.info("LoanTransaction {} fully paid and marked as ended", loanTransaction.getId());
@@ -64,21 +64,24 @@ public class InstallmentPaymentProcessor {
             log.debug("LoanTransaction {} paid amount updated: {}", loanTransaction.getId(), paidAmount);
         }
 
-        loanTransactionService.saveAndFlush(loanTransaction);
+        outboxService.append(OutboxEventType.INSTALLMENT_BONUS, bonusEvents(installment, currentUserId));
+        log.debug("Installment bonus queued for installmentId: {}", installment.getId());
 
-        if (!isEnd) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    log.debug("Triggering async installment creation for loanTransactionId: {}", loanTransaction.getId());
-                    installmentAsyncProcessor.handleInstallmentCreation(new LoanTransactionMessage(loanTransaction.getId()));
-                }
-            });
-        }
+        return new LoanApplicationMessage("Installment paid successfully.");
+    }
 
-        installmentAsyncProcessor.processInstallmentBonus(savedInstallment);
-        log.info("Installment bonus processed for installmentId: {}", savedInstallment.getId());
+    private List<BonusEvent> bonusEvents(Installment installment, String borrowerId) {
+        int bonus = CalculatorUtils.calculateInstallmentBonus(installment);
+        User guarantor = installment.getLoanTransaction().getGuarantor();
+        log.debug("Calculated bonus {} for installmentId: {}", bonus, installment.getId());
 
-        return new LoanApplicationMessage("Installment paid successfully.");
+        if (guarantor == null) {
+            return List.of(new BonusEvent(borrowerId, bonus, installment.getId(), ScoreTransactionType.LOAN_AWARD));
+        }
+        int borrowerBonus = CalculatorUtils.calculateBorrowerBonusShare(bonus);
+        return List.of(
+                new BonusEvent(borrowerId, borrowerBonus, installment.getId(), ScoreTransactionType.LOAN_AWARD),
+                new BonusEvent(guarantor.getId(), bonus - borrowerBonus, installment.getId(), ScoreTransactionType.GUARANTEE_AWARD)
+        );
     }
-}
\ No newline at end of file
+}
@@ -1,43 +1,55 @@
 package com.lending.app.application.processor;
 
+import com.lending.app.application.service.InstallmentService;
 import com.lending.app.application.service.LoanService;
 import com.lending.app.application.service.LoanTransactionService;
+import com.lending.app.application.service.ScoreLedgerService;
+import com.lending.app.application.service.ScoreReservationService;
 import com.lending.app.application.service.UserService;
 import com.lending.app.exception.InsufficientScoreException;
 import com.lending.app.model.entity.Loan;
 import com.lending.app.model.entity.LoanTransaction;
 import com.lending.app.model.entity.User;
+import com.lending.app.model.enums.ScoreTransactionType;
 import com.lending.app.model.record.loan.LoanApplicationCommand;
 import com.lending.app.model.record.loan.LoanApplicationMessage;
-import com.lending.app.model.record.loan.LoanTransactionMessage;
 import com.lending.app.util.CalculatorUtils;
 import com.lending.app.util.SecurityUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 @Slf4j
+@Timed("lending.processor")
 @Service
 public class LoanApplicationProcessor {
 
     private final LoanTransactionService loanTransactionService;
     private final UserService userService;
     private final LoanService loanService;
-    private final InstallmentAsyncProcessor installmentAsyncProcessor;
+    private final ScoreReservationService scoreReservationService;
+    private final ScoreLedgerService scoreLedgerService;
+    private final InstallmentService installmentService;
 
     public LoanApplicationProcessor(
             LoanTransactionService loanTransactionService,
             UserService userService,
-            LoanService loanService, InstallmentAsyncProcessor installmentAsyncProcessor
+            LoanService loanService,
+            ScoreReservationService scoreReservationService,
+            ScoreLedgerService scoreLedgerService,
+            InstallmentService installmentService
     ) {
         this.loanTransactionService = loanTransactionService;
         this.userService = userService;
         this.loanService = loanService;
-        this.installmentAsyncProcessor = installmentAsyncProcessor;
+        this.scoreReservationService = scoreReservationService;
+        this.scoreLedgerService = scoreLedgerService;
+        this.installmentService = installmentService;
     }
 
     @Transactional
@@ -45,27 +57,21 @@ public class LoanApplicationProcessor {
         String borrowerId = SecurityUtils.getCurrentUserId();
         log.debug("Processing loan application for borrowerId: {} and loanId: {}", borrowerId, application.loanId());
 
-        User borrower = userService.getUserForUpdate(borrowerId);
         Loan loan = loanService.getLoan(application.loanId());
+        User borrower = userService.getReference(borrowerId);
 
         LoanTransaction transaction = initializeTransaction(loan, borrower);
 
         LoanApplicationMessage result;
-        if (borrower.getScore() >= loan.getRequiredScore()) {
-            log.debug("Borrower has enough score: {} >= {}", borrower.getScore(), loan.getRequiredScore());
+        if (scoreReservationService.tryReserve(borrowerId, loan.getRequiredScore())) {
+            log.debug("Borrower has enough score, reserved {}", loan.getRequiredScore());
             result = handleBorrower(borrower, loan, transaction);
         } else {
-            log.debug("Borrower does not have enough score: {} < {}", borrower.getScore(), loan.getRequiredScore());
+            log.debug("Borrower does not have enough score for {}", loan.getRequiredScore());
             result = handleWithGuarantor(application, borrower, loan, transaction);
         }
 
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                log.debug("Triggering async installment creation for transactionId: {}", transaction.getId());
-                installmentAsyncProcessor.handleInstallmentCreation(new LoanTransactionMessage(transaction.getId()));
-            }
-        });
+        installmentService.createSchedule(transaction);
 
         log.info("Loan application processed successfully for borrowerId: {} and loanId: {}", borrowerId, loan.getId());
         return result;
@@ -84,8 +90,7 @@ public class LoanApplicationProcessor {
         loanTransactionService.saveAndFlush(transaction);
         log.debug("Transaction saved for borrowerId: {} and loanId: {}", borrower.getId(), loan.getId());
 
-        userService.changeScore(borrower, -loan.getRequiredScore());
-        log.debug("Borrower score reduced by {}. New score: {}", loan.getRequiredScore(), borrower.getScore());
+        scoreLedgerService.record(borrower.getId(), ScoreTransactionType.TRANSFER, -loan.getRequiredScore(), transaction.getId());
 
         return successMessage();
     }
@@ -96,23 +101,23 @@ public class LoanApplicationProcessor {
             throw new InsufficientScoreException();
         }
 
-        User guarantor = userService.getUserForUpdate(application.guarantorId());
         int neededFromGuarantor = CalculatorUtils.calculateGuarantorScore(loan);
         int neededFromBorrower = loan.getRequiredScore() - neededFromGuarantor;
 
-        if (guarantor.getScore() < neededFromGuarantor) {
-            log.warn("Guarantor score insufficient: {} < {} for loanId: {}", guarantor.getScore(), neededFromGuarantor, loan.getId());
-            throw new InsufficientScoreException();
-        }
-
-        userService.changeScore(borrower, -neededFromBorrower);
-        userService.changeScore(guarantor, -neededFromGuarantor);
-        log.debug("Scores updated. Borrower new score: {}, Guarantor new score: {}", borrower.getScore(), guarantor.getScore());
+        Map<String, Integer> reservations = new HashMap<>();
+        reservations.merge(borrower.getId(), neededFromBorrower, Integer::sum);
+        reservations.merge(application.guarantorId(), neededFromGuarantor, Integer::sum);
+        scoreReservationService.reserve(reservations);
+        log.debug("Scores reserved. Borrower: {}, Guarantor: {}", neededFromBorrower, neededFromGuarantor);
 
+        User guarantor = userService.getReference(application.guarantorId());
         transaction.setGuarantor(guarantor);
         loanTransactionService.saveAndFlush(transaction);
         log.debug("Transaction saved with guarantorId: {}", guarantor.getId());
 
+        scoreLedgerService.record(borrower.getId(), ScoreTransactionType.TRANSFER, -neededFromBorrower, transaction.getId());
+        scoreLedgerService.record(guarantor.getId(), ScoreTransactionType.GUARANTEE_PLEDGE, -neededFromGuarantor, transaction.getId());
+
         return successMessage();
     }
 
@@ -0,0 +1,72 @@
+package com.lending.app.application.processor;
+
+import com.lending.app.config.OutboxPublisher;
+import com.lending.app.model.entity.OutboxEvent;
+import com.lending.app.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drains the outbox in batches. A batch stays locked while it is published and is deleted in
+ * the same transaction once the publisher returns, so a crash at any point leaves the rows in
+ * place to be sent again; consumers are idempotent for exactly that case.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter relayed;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxPublisher outboxPublisher,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size}") int batchSize
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        this.relayed = meterRegistry.counter("outbox.relay.events");
+    }
+
+    /**
+     * Relays until a batch comes back short and returns the number of events relayed.
+     */
+    public int relay() {
+        int total = 0;
+        int relayedInBatch;
+        do {
+            Integer count = transactionTemplate.execute(status -> relayBatch());
+            relayedInBatch = count != null ? count : 0;
+            total += relayedInBatch;
+        } while (relayedInBatch == batchSize);
+        return total;
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findBatchForUpdate(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        outboxPublisher.publish(batch);
+        outboxEventRepository.deleteAllInBatch(batch);
+        relayed.increment(batch.size());
+        log.debug("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+}
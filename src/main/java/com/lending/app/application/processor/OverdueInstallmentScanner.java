@@ -0,0 +1,199 @@
+package com.lending.app.application.processor;
+
+import com.lending.app.application.service.ScoreLedgerService;
+import com.lending.app.application.service.UserService;
+import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.JobCheckpoint;
+import com.lending.app.model.enums.ScoreTransactionType;
+import com.lending.app.repository.InstallmentRepository;
+import com.lending.app.repository.JobCheckpointRepository;
+import com.lending.app.util.CalculatorUtils;
+import com.lending.app.util.UlidUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Penalizes unpaid installments past their due date. The coordinator cuts the overdue keyset into
+ * id ranges of {@code chunkSize} rows and hands them to a pool of workers, each range committed in
+ * its own transaction with one batched score update. Ranges complete out of order, but the
+ * checkpoint only advances past a range once every range before it has committed, so a run that
+ * dies resumes where the contiguous prefix ended. Penalized rows are stamped and locked rows are
+ * skipped, so a re-scanned range or a concurrent node never charges an installment twice. Workers
+ * are virtual threads when {@code spring.threads.virtual.enabled} is set; the pool size still caps
+ * how many ranges, and so how many connections, are in flight.
+ */
+@Slf4j
+@Component
+public class OverdueInstallmentScanner {
+
+    static final String JOB = "overdue-installments";
+
+    private final InstallmentRepository installmentRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final UserService userService;
+    private final ScoreLedgerService scoreLedgerService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadFactory workerFactory;
+    private final int workers;
+    private final int chunkSize;
+    private final Duration gracePeriod;
+
+    private final Counter penalized;
+    private final Timer scanTimer;
+
+    public OverdueInstallmentScanner(
+            InstallmentRepository installmentRepository,
+            JobCheckpointRepository jobCheckpointRepository,
+            UserService userService,
+            ScoreLedgerService scoreLedgerService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${overdue.scan.workers}") int workers,
+            @Value("${overdue.scan.chunk-size}") int chunkSize,
+            @Value("${overdue.grace-days}") int graceDays
+    ) {
+        this.installmentRepository = installmentRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.userService = userService;
+        this.scoreLedgerService = scoreLedgerService;
+        this.transactionTemplate = transactionTemplate;
+        this.workerFactory = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("OverdueScan-", 0).factory()
+                : Thread.ofPlatform().name("OverdueScan-", 0).factory();
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.gracePeriod = Duration.ofDays(graceDays);
+
+        this.penalized = meterRegistry.counter("overdue.scan.penalized");
+        this.scanTimer = meterRegistry.timer("overdue.scan");
+    }
+
+    /**
+     * Runs one full pass and returns the number of installments penalized.
+     */
+    public int scan() {
+        return scanTimer.record(this::scanAll);
+    }
+
+    private int scanAll() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        String position = jobCheckpointRepository.findById(JOB)
+                .map(JobCheckpoint::getPosition)
+                .filter(UlidUtils::isValid)
+                .orElse(UlidUtils.MIN);
+        log.info("Overdue scan started from position '{}' with cutoff {}", position, cutoff);
+
+        AtomicInteger total = new AtomicInteger();
+        Deque<Range> inFlight = new ArrayDeque<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(workers, workerFactory)) {
+            String after = position;
+            Range range;
+            while ((range = nextRange(after, cutoff)) != null) {
+                Range submitted = range;
+                range.result = pool.submit(() -> total.addAndGet(penalize(submitted, cutoff)));
+                inFlight.addLast(range);
+                after = range.upTo;
+
+                if (inFlight.size() >= workers * 2) {
+                    checkpoint(awaitHead(inFlight));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                checkpoint(awaitHead(inFlight));
+            }
+        }
+        checkpoint(UlidUtils.MIN);
+        log.info("Overdue scan finished, {} installments penalized", total.get());
+        return total.get();
+    }
+
+    private Range nextRange(String after, LocalDateTime cutoff) {
+        return installmentRepository.findOverdueBoundary(after, cutoff, chunkSize - 1)
+                .or(() -> installmentRepository.findLastOverdueId(after, cutoff))
+                .map(upTo -> new Range(after, upTo))
+                .orElse(null);
+    }
+
+    private int penalize(Range range, LocalDateTime cutoff) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<Installment> overdue = installmentRepository.findOverdueForUpdate(range.after, range.upTo, cutoff);
+            if (overdue.isEmpty()) {
+                return 0;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, Integer> deltas = new LinkedHashMap<>();
+            for (Installment installment : overdue) {
+                String borrowerId = installment.getLoanTransaction().getBorrower().getId();
+                int penalty = CalculatorUtils.calculateOverduePenalty(installment.getLoanTransaction().getLoan());
+                installment.setPenalizedAt(now);
+                deltas.merge(borrowerId, -penalty, Integer::sum);
+                scoreLedgerService.record(borrowerId, ScoreTransactionType.PENALTY, -penalty, installment.getId());
+            }
+            userService.changeScores(deltas);
+            return overdue.size();
+        });
+        int applied = count != null ? count : 0;
+        penalized.increment(applied);
+        log.debug("Penalized {} installments in range ({}, {}]", applied, range.after, range.upTo);
+        return applied;
+    }
+
+    private String awaitHead(Deque<Range> inFlight) {
+        Range head = inFlight.removeFirst();
+        try {
+            head.result.get();
+            return head.upTo;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Overdue scan interrupted", e);
+        } catch (ExecutionException e) {
+            log.error("Overdue scan range ({}, {}] failed, resuming from the last checkpoint next run", head.after, head.upTo);
+            throw new IllegalStateException("Overdue scan range failed", e.getCause());
+        }
+    }
+
+    private void checkpoint(String position) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(JOB).orElseGet(() -> {
+            JobCheckpoint created = new JobCheckpoint();
+            created.setName(JOB);
+            return created;
+        });
+        checkpoint.setPosition(position);
+        checkpoint.setUpdatedAt(Instant.now());
+        jobCheckpointRepository.save(checkpoint);
+    }
+
+    private static final class Range {
+        private final String after;
+        private final String upTo;
+        private Future<?> result;
+
+        private Range(String after, String upTo) {
+            this.after = after;
+            this.upTo = upTo;
+        }
+    }
+}
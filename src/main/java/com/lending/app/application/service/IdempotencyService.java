@@ -0,0 +1,9 @@
+package com.lending.app.application.service;
+
+import com.lending.app.model.record.loan.LoanApplicationMessage;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+    LoanApplicationMessage execute(String operation, String idempotencyKey, Object request, Supplier<LoanApplicationMessage> action);
+}
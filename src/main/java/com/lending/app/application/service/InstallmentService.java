@@ -1,9 +1,11 @@
 package com.lending.app.application.service;
 
 import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.LoanTransaction;
+
+import java.util.List;
 
 public interface InstallmentService {
-    Installment save(Installment installment);
-    Installment saveAndFlush(Installment installment);
-    Installment findNotPaidInstallmentByLoanTransactionId(String loanTransactionId);
+    List<Installment> createSchedule(LoanTransaction loanTransaction);
+    Installment lockPayableInstallment(String loanTransactionId, String borrowerId);
 }
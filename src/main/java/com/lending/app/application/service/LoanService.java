@@ -1,12 +1,13 @@
 package com.lending.app.application.service;
 
 import com.lending.app.model.entity.Loan;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.loan.LoanMessage;
 import com.lending.app.model.record.loan.LoanMessageSet;
 import com.lending.app.model.record.loan.SaveLoanCommand;
 import com.lending.app.model.record.loan.UpdateLoanCommand;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface LoanService {
     LoanMessage save(SaveLoanCommand command);
@@ -15,6 +16,8 @@ public interface LoanService {
     LoanMessage get(String id);
     Loan getLoan(String id);
     LoanMessageSet getAll();
+    CursorPage<LoanMessage> getPage(String after, int size);
+    void exportAll(Consumer<LoanMessage> consumer);
 }
 
 
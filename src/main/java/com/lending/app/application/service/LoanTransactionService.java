@@ -1,12 +1,11 @@
 package com.lending.app.application.service;
 
 import com.lending.app.model.entity.LoanTransaction;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.loan.UserLoanTransactionMessage;
 
-import java.util.List;
-
 public interface LoanTransactionService {
     LoanTransaction saveAndFlush(LoanTransaction loanTransaction);
     LoanTransaction findById(String id);
-    List<UserLoanTransactionMessage> findUserLoanTransactionsByUserId();
+    CursorPage<UserLoanTransactionMessage> findUserLoanTransactionsByUserId(String cursor, int size);
 }
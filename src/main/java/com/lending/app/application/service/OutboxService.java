@@ -0,0 +1,7 @@
+package com.lending.app.application.service;
+
+import com.lending.app.model.enums.OutboxEventType;
+
+public interface OutboxService {
+    void append(OutboxEventType type, Object payload);
+}
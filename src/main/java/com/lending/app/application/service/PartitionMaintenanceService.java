@@ -0,0 +1,6 @@
+package com.lending.app.application.service;
+
+public interface PartitionMaintenanceService {
+    int createPartitions();
+    int detachClosedPartitions();
+}
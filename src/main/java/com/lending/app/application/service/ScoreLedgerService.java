@@ -0,0 +1,11 @@
+package com.lending.app.application.service;
+
+import com.lending.app.model.entity.ScoreLedgerEntry;
+import com.lending.app.model.enums.ScoreTransactionType;
+
+import java.util.List;
+
+public interface ScoreLedgerService {
+    void record(String userId, ScoreTransactionType type, int delta, String referenceId);
+    List<ScoreLedgerEntry> recordAbsent(List<ScoreLedgerEntry> entries);
+}
@@ -0,0 +1,8 @@
+package com.lending.app.application.service;
+
+import java.util.Map;
+
+public interface ScoreReservationService {
+    boolean tryReserve(String userId, int amount);
+    void reserve(Map<String, Integer> amountsByUserId);
+}
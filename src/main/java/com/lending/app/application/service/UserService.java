@@ -1,20 +1,28 @@
 package com.lending.app.application.service;
 
 import com.lending.app.model.entity.User;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.user.CreateUserCommand;
 import com.lending.app.model.record.user.UpdateUserCommand;
 import com.lending.app.model.record.user.UserMessage;
 import com.lending.app.model.record.user.UserMessageSet;
 
+import java.util.Map;
+import java.util.function.Consumer;
+
 public interface UserService {
     UserMessage save(CreateUserCommand command);
     User save(User user);
     UserMessage get();
     UserMessageSet getAll();
+    CursorPage<UserMessage> getPage(String after, int size);
+    void exportAll(Consumer<UserMessage> consumer);
     UserMessage update(UpdateUserCommand command);
-    User getUserForUpdate(String id);
+    User getReference(String id);
+    boolean reserveScore(String id, int amount);
     void delete(String id);
-    UserMessage changeScore(User user, int delta);
+    void changeScore(String id, int delta);
+    void changeScores(Map<String, Integer> deltasByUserId);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 }
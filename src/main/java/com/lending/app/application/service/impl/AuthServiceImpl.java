@@ -1,5 +1,6 @@
 package com.lending.app.application.service.impl;
 
+import com.lending.app.application.service.ScoreLedgerService;
 import com.lending.app.application.service.UserService;
 import com.lending.app.exception.UnauthorizedException;
 import com.lending.app.model.entity.User;
@@ -9,10 +10,12 @@ import com.lending.app.model.record.auth.SignInCommand;
 import com.lending.app.model.record.auth.SignUpCommand;
 import com.lending.app.model.record.user.CreateUserCommand;
 import com.lending.app.model.enums.Role;
+import com.lending.app.model.enums.ScoreTransactionType;
 import com.lending.app.model.record.user.UserMessage;
 import com.lending.app.repository.UserRepository;
 import com.lending.app.security.JwtService;
 import com.lending.app.application.service.AuthService;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -21,10 +24,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
 @Slf4j
+@Timed("lending.service")
 @Service
 public class AuthServiceImpl implements AuthService {
 
@@ -35,15 +40,19 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final ScoreLedgerService scoreLedgerService;
 
-    public AuthServiceImpl(UserService userService, PasswordEncoder passwordEncoder, JwtService jwtService, AuthenticationManager authenticationManager) {
+    public AuthServiceImpl(UserService userService, PasswordEncoder passwordEncoder, JwtService jwtService,
+                           AuthenticationManager authenticationManager, ScoreLedgerService scoreLedgerService) {
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.scoreLedgerService = scoreLedgerService;
     }
 
     @Override
+    @Transactional
     public AuthMessage signUp(SignUpCommand command) {
         log.info("SignUp attempt for username: {}, email: {}", command.username(), command.email());
 
@@ -58,8 +67,9 @@ public class AuthServiceImpl implements AuthService {
 
         CreateUserCommand toSave = new CreateUserCommand(command.username(), passwordEncoder.encode(command.password()), command.email(), bonus, Role.USER);
         UserMessage userMessage = userService.save(toSave);
+        scoreLedgerService.record(userMessage.id(), ScoreTransactionType.SIGNUP_BONUS, bonus, null);
 
-        String token = jwtService.generateToken(toSave.username(), Map.of("uid", String.valueOf(userMessage.id())));
+        String token = jwtService.generateToken(toSave.username(), Map.of("uid", String.valueOf(userMessage.id()), "role", toSave.role().name()));
         log.info("SignUp successful for username: {}", toSave.username());
         return new AuthMessage(token);
     }
@@ -77,7 +87,7 @@ public class AuthServiceImpl implements AuthService {
                 throw new UnauthorizedException();
             }
             User user = (User) authentication.getPrincipal();
-            String token = jwtService.generateToken(user.getUsername(), Map.of("uid", user.getId()));
+            String token = jwtService.generateToken(user.getUsername(), Map.of("uid", user.getId(), "role", user.getRole().name()));
             log.info("SignIn successful for username: {}", user.getUsername());
             return new AuthMessage(token);
         } catch (AuthenticationException ex) {
@@ -0,0 +1,105 @@
+package com.lending.app.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lending.app.application.service.IdempotencyService;
+import com.lending.app.config.IdempotencyStore;
+import com.lending.app.exception.AlreadyExistsException;
+import com.lending.app.exception.InvalidException;
+import com.lending.app.exception.MismatchException;
+import com.lending.app.model.record.loan.LoanApplicationMessage;
+import com.lending.app.util.SecurityUtils;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Runs an operation at most once per caller and {@code Idempotency-Key}. A retry of a completed
+ * request gets the recorded response without reaching the processor or the database; a retry
+ * racing the first attempt is rejected with a conflict. Failed attempts release the key so the
+ * client can try again. The key is stored with a SHA-256 hash of the request, and reusing it for
+ * a different request is rejected as unprocessable instead of replaying an unrelated response.
+ */
+@Slf4j
+@Timed("lending.service")
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter conflicted;
+    private final Counter mismatched;
+
+    public IdempotencyServiceImpl(IdempotencyStore store, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.executed = meterRegistry.counter("idempotency.requests", "outcome", "executed");
+        this.replayed = meterRegistry.counter("idempotency.requests", "outcome", "replayed");
+        this.conflicted = meterRegistry.counter("idempotency.requests", "outcome", "conflict");
+        this.mismatched = meterRegistry.counter("idempotency.requests", "outcome", "mismatch");
+    }
+
+    @Override
+    public LoanApplicationMessage execute(String operation, String idempotencyKey, Object request, Supplier<LoanApplicationMessage> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidException("Idempotency-Key");
+        }
+
+        String key = operation + ":" + SecurityUtils.getCurrentUserId() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        IdempotencyStore.Claim claim = store.claim(key, fingerprint);
+        if (claim.fingerprint() != null && !claim.fingerprint().equals(fingerprint)) {
+            mismatched.increment();
+            log.warn("Idempotency key reused with a different request: {}", key);
+            throw new MismatchException("Idempotency-Key");
+        }
+        switch (claim.state()) {
+            case COMPLETED -> {
+                replayed.increment();
+                log.info("Replaying recorded response for idempotency key: {}", key);
+                return new LoanApplicationMessage(claim.response());
+            }
+            case IN_PROGRESS -> {
+                conflicted.increment();
+                log.warn("Request still in progress for idempotency key: {}", key);
+                throw new AlreadyExistsException("Request with this Idempotency-Key");
+            }
+            default -> log.debug("Claimed idempotency key: {}", key);
+        }
+
+        LoanApplicationMessage result;
+        try {
+            result = action.get();
+        } catch (RuntimeException ex) {
+            store.release(key);
+            log.debug("Released idempotency key after failure: {}", key);
+            throw ex;
+        }
+        store.complete(key, fingerprint, result.message());
+        executed.increment();
+        return result;
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(hash);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Cannot fingerprint " + request.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -3,14 +3,21 @@ package com.lending.app.application.service.impl;
 import com.lending.app.application.service.InstallmentService;
 import com.lending.app.exception.NotFoundException;
 import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.LoanTransaction;
 import com.lending.app.repository.InstallmentRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
+@Timed("lending.service")
 @Service
 public class InstallmentServiceImpl implements InstallmentService {
 
@@ -20,33 +27,37 @@ public class InstallmentServiceImpl implements InstallmentService {
         this.installmentRepository = installmentRepository;
     }
 
+    /**
+     * Writes every installment of the transaction up front, one per month from its start date,
+     * so paying one later only updates an existing row.
+     */
     @Transactional
     @Override
-    public Installment save(Installment installment) {
-        log.debug("Saving installment for loanTransactionId: {}", installment.getLoanTransaction().getId());
-        Installment saved = installmentRepository.save(installment);
-        log.info("Installment saved with id: {}", saved.getId());
-        return saved;
-    }
+    public List<Installment> createSchedule(LoanTransaction loanTransaction) {
+        int count = loanTransaction.getLoan().getNumberOfInstallments();
+        log.debug("Creating schedule of {} installments for loanTransactionId: {}", count, loanTransaction.getId());
 
-    @Transactional
-    @Override
-    public Installment saveAndFlush(Installment installment) {
-        log.debug("Saving and flushing installment for loanTransactionId: {}", installment.getLoanTransaction().getId());
-        Installment saved = installmentRepository.saveAndFlush(installment);
-        log.info("Installment saved and flushed with id: {}", saved.getId());
-        return saved;
+        List<Installment> schedule = new ArrayList<>(count);
+        for (int month = 1; month <= count; month++) {
+            Installment installment = new Installment();
+            installment.setLoanTransaction(loanTransaction);
+            installment.setDueDate(loanTransaction.getStartDate().plusMonths(month));
+            schedule.add(installment);
+        }
+        installmentRepository.insertAll(schedule);
+        log.info("Created {} installments for loanTransactionId: {}", count, loanTransaction.getId());
+        return schedule;
     }
 
     @Override
-    public Installment findNotPaidInstallmentByLoanTransactionId(String loanTransactionId) {
-        log.debug("Finding not-paid installment for loanTransactionId: {}", loanTransactionId);
-        Installment installment = installmentRepository.findLastByLoanTransactionId(loanTransactionId)
+    public Installment lockPayableInstallment(String loanTransactionId, String borrowerId) {
+        log.debug("Locking payable installment for loanTransactionId: {}", loanTransactionId);
+        Installment installment = installmentRepository.findPayableForUpdate(loanTransactionId, borrowerId, Limit.of(1))
                 .orElseThrow(() -> {
-                    log.warn("No not-paid installment found for loanTransactionId: {}", loanTransactionId);
+                    log.warn("No payable installment found for loanTransactionId: {} and borrowerId: {}", loanTransactionId, borrowerId);
                     return new NotFoundException("Installment");
                 });
-        log.info("Found not-paid installment with id: {}", installment.getId());
+        log.info("Locked payable installment with id: {}", installment.getId());
         return installment;
     }
 }
\ No newline at end of file
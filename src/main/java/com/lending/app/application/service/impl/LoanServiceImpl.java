@@ -1,5 +1,7 @@
 package com.lending.app.application.service.impl;
 
+import com.lending.app.config.AggregateCache;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.exception.NotFoundException;
 import com.lending.app.mapper.LoanMapper;
 import com.lending.app.model.entity.Loan;
@@ -11,33 +13,43 @@ import com.lending.app.repository.LoanRepository;
 import com.lending.app.application.service.LoanService;
 import com.lending.app.util.CalculatorUtils;
 import com.lending.app.exception.AlreadyExistsException;
+import com.lending.app.exception.InvalidException;
+import com.lending.app.util.UlidUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
+@Timed("lending.service")
 @Service
 public class LoanServiceImpl implements LoanService {
 
     private final LoanRepository loanRepository;
     private final LoanMapper loanMapper;
+    private final AggregateCache<LoanMessage> loanAggregateCache;
 
-    public LoanServiceImpl(LoanRepository loanRepository, LoanMapper loanMapper) {
+    public LoanServiceImpl(LoanRepository loanRepository, LoanMapper loanMapper, AggregateCache<LoanMessage> loanAggregateCache) {
         this.loanRepository = loanRepository;
         this.loanMapper = loanMapper;
+        this.loanAggregateCache = loanAggregateCache;
     }
 
     @Override
     @Transactional
     @CachePut(value = "loans", key = "#result.id")
-    @CacheEvict(value = "loans_all", allEntries = true)
     public LoanMessage save(SaveLoanCommand command) {
         log.debug("Saving new loan: {}", command);
         if (loanRepository.existsByNameAndDeletedAtIsNull(command.name())) {
@@ -48,13 +60,14 @@ public class LoanServiceImpl implements LoanService {
         loan.setEachInstallmentAmount(CalculatorUtils.calculateEachInstallmentAmount(command.amount(), command.numberOfInstallments()));
         Loan saved = loanRepository.save(loan);
         log.info("Loan saved with id: {}", saved.getId());
-        return loanMapper.toMessage(saved);
+        LoanMessage message = loanMapper.toMessage(saved);
+        loanAggregateCache.put(saved.getId(), message);
+        return message;
     }
 
     @Override
     @Transactional
     @CachePut(value = "loans", key = "#command.id")
-    @CacheEvict(value = "loans_all", allEntries = true)
     public LoanMessage update(UpdateLoanCommand command) {
         log.debug("Updating loan with id: {}", command.id());
         Loan existing = loanRepository.findById(command.id())
@@ -69,12 +82,14 @@ public class LoanServiceImpl implements LoanService {
         loanMapper.apply(command, existing);
         Loan saved = loanRepository.save(existing);
         log.info("Loan updated with id: {}", saved.getId());
-        return loanMapper.toMessage(saved);
+        LoanMessage message = loanMapper.toMessage(saved);
+        loanAggregateCache.put(saved.getId(), message);
+        return message;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"loans", "loans_all"}, key = "#id")
+    @CacheEvict(value = "loans", key = "#id")
     public void delete(String id) {
         log.debug("Deleting loan with id: {}", id);
         if (!loanRepository.existsById(id)) {
@@ -82,6 +97,7 @@ public class LoanServiceImpl implements LoanService {
             throw new NotFoundException("Loan");
         }
         loanRepository.softDeleteById(id);
+        loanAggregateCache.remove(id);
         log.info("Loan soft-deleted with id: {}", id);
     }
 
@@ -103,13 +119,52 @@ public class LoanServiceImpl implements LoanService {
     }
 
     @Override
-    @Cacheable(value = "loans_all", key = "#root.methodName")
     public LoanMessageSet getAll() {
         log.debug("Fetching all loans");
-        Set<LoanMessage> loans = loanRepository.findAll().stream()
+        return loanAggregateCache.getAll()
+                .map(this::refresh)
+                .orElseGet(this::loadAll);
+    }
+
+    private LoanMessageSet loadAll() {
+        long version = loanAggregateCache.version();
+        Map<String, LoanMessage> loans = loanRepository.findAll().stream()
                 .map(loanMapper::toMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toMap(LoanMessage::id, Function.identity()));
+        loanAggregateCache.putAll(loans, version);
         log.info("Fetched {} loans", loans.size());
+        return new LoanMessageSet(new HashSet<>(loans.values()));
+    }
+
+    private LoanMessageSet refresh(AggregateCache.Snapshot<LoanMessage> snapshot) {
+        Set<LoanMessage> loans = new HashSet<>(snapshot.values());
+        if (!snapshot.staleIds().isEmpty()) {
+            log.debug("Reloading {} stale loans", snapshot.staleIds().size());
+            snapshot.staleMarks().forEach((id, staleMark) -> {
+                LoanMessage loan = loanRepository.findById(id).map(loanMapper::toMessage).orElse(null);
+                if (loan != null) {
+                    loans.add(loan);
+                }
+                loanAggregateCache.replaceStale(id, loan, staleMark);
+            });
+        }
         return new LoanMessageSet(loans);
     }
+
+    @Override
+    public CursorPage<LoanMessage> getPage(String after, int size) {
+        log.debug("Fetching loans page after: {}, size: {}", after, size);
+        if (after != null && !UlidUtils.isValid(after)) {
+            throw new InvalidException("cursor");
+        }
+        List<LoanMessage> rows = loanRepository.findPageAfter(after != null ? after : UlidUtils.MIN, Limit.of(size + 1));
+        return CursorPage.of(rows, size, LoanMessage::id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<LoanMessage> consumer) {
+        log.debug("Exporting all loans");
+        loanRepository.streamAll(consumer);
+    }
 }
\ No newline at end of file
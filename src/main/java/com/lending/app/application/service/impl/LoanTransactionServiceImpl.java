@@ -1,28 +1,36 @@
 package com.lending.app.application.service.impl;
 
 import com.lending.app.application.service.LoanTransactionService;
+import com.lending.app.exception.InvalidException;
 import com.lending.app.exception.NotFoundException;
-import com.lending.app.mapper.LoanTransactionMapper;
 import com.lending.app.model.entity.LoanTransaction;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.loan.UserLoanTransactionMessage;
 import com.lending.app.repository.LoanTransactionRepository;
 import com.lending.app.util.SecurityUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
 @Slf4j
+@Timed("lending.service")
 @Service
 public class LoanTransactionServiceImpl implements LoanTransactionService {
 
+    private static final String CURSOR_SEPARATOR = "~";
+
     private final LoanTransactionRepository repository;
-    private final LoanTransactionMapper loanTransactionMapper;
 
-    public LoanTransactionServiceImpl(LoanTransactionRepository repository, LoanTransactionMapper loanTransactionMapper) {
+    public LoanTransactionServiceImpl(LoanTransactionRepository repository) {
         this.repository = repository;
-        this.loanTransactionMapper = loanTransactionMapper;
     }
 
     @Override
@@ -47,15 +55,44 @@ public class LoanTransactionServiceImpl implements LoanTransactionService {
     }
 
     @Override
-    public List<UserLoanTransactionMessage> findUserLoanTransactionsByUserId() {
+    public CursorPage<UserLoanTransactionMessage> findUserLoanTransactionsByUserId(String cursor, int size) {
         String userId = SecurityUtils.getCurrentUserId();
-        log.debug("Fetching UserLoanTransactions for userId: {}", userId);
-
-        List<LoanTransaction> transactions = repository.findByUserId(userId);
-        List<UserLoanTransactionMessage> userLoanTransactions = transactions.stream()
-                .map(loanTransactionMapper::toMessage)
-                .collect(java.util.stream.Collectors.toList());
-        log.info("Fetched {} UserLoanTransactions for userId: {}", userLoanTransactions.size(), userId);
-        return userLoanTransactions;
+        log.debug("Fetching UserLoanTransactions page for userId: {}, cursor: {}, size: {}", userId, cursor, size);
+
+        Limit limit = Limit.of(size + 1);
+        List<UserLoanTransactionMessage> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repository.findFirstPageByBorrowerId(userId, limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = repository.findPageByBorrowerIdBefore(userId, LocalDateTime.parse(position[0]), position[1], limit);
+        }
+        CursorPage<UserLoanTransactionMessage> page = CursorPage.of(rows, size, LoanTransactionServiceImpl::encodeCursor);
+        log.info("Fetched {} UserLoanTransactions for userId: {}", page.items().size(), userId);
+        return page;
+    }
+
+    /**
+     * The cursor is the (startDate, id) of the last row returned, matching the ORDER BY of the
+     * page queries, encoded so clients treat it as opaque.
+     */
+    private static String encodeCursor(UserLoanTransactionMessage last) {
+        String position = last.startDate() + CURSOR_SEPARATOR + last.loanTransactionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split(CURSOR_SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            LocalDateTime.parse(parts[0]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.warn("Rejected malformed cursor: {}", cursor);
+            throw new InvalidException("cursor");
+        }
     }
-}
\ No newline at end of file
+}
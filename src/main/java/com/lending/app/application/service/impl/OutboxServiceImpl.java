@@ -0,0 +1,45 @@
+package com.lending.app.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lending.app.application.service.OutboxService;
+import com.lending.app.model.entity.OutboxEvent;
+import com.lending.app.model.enums.OutboxEventType;
+import com.lending.app.repository.OutboxEventRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Timed("lending.service")
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Must run inside the caller's transaction: the event commits or rolls back with the
+     * change it describes, which is the whole point of the outbox.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(type);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserializable " + type + " payload", e);
+        }
+        outboxEventRepository.save(event);
+        log.debug("Outbox event {} appended with id: {}", type, event.getId());
+    }
+}
@@ -0,0 +1,104 @@
+package com.lending.app.application.service.impl;
+
+import com.lending.app.application.service.PartitionMaintenanceService;
+import com.lending.app.model.enums.PartitionedTable;
+import com.lending.app.repository.PartitionRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps the month partitions of {@link PartitionedTable}s ahead of the data and detaches old
+ * ones. A failure on one month is logged and the rest still run; the next pass retries it.
+ */
+@Slf4j
+@Timed("lending.service")
+@Service
+public class PartitionMaintenanceServiceImpl implements PartitionMaintenanceService {
+
+    private final PartitionRepository partitionRepository;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final Duration detachLockTimeout;
+
+    public PartitionMaintenanceServiceImpl(
+            PartitionRepository partitionRepository,
+            @Value("${partition.premake-months}") int premakeMonths,
+            @Value("${partition.retention-months}") int retentionMonths,
+            @Value("${partition.detach-lock-timeout-ms}") long detachLockTimeoutMs
+    ) {
+        this.partitionRepository = partitionRepository;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.detachLockTimeout = Duration.ofMillis(detachLockTimeoutMs);
+    }
+
+    /**
+     * Creates the current month and the next {@code premakeMonths}, plus every month with rows
+     * in the default partition, such as installments due beyond that window. Those rows move
+     * into their month, so the default partition only ever holds what arrived since the last run.
+     */
+    @Override
+    public int createPartitions() {
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        for (PartitionedTable table : PartitionedTable.values()) {
+            Set<YearMonth> months = new TreeSet<>();
+            for (int ahead = 0; ahead <= premakeMonths; ahead++) {
+                months.add(current.plusMonths(ahead));
+            }
+            months.addAll(partitionRepository.findMonthsInDefault(table));
+
+            for (YearMonth month : months) {
+                try {
+                    if (partitionRepository.createMonth(table, month)) {
+                        created++;
+                        log.info("Created partition {}", table.partitionName(month));
+                    }
+                } catch (DataAccessException e) {
+                    log.error("Failed to create partition {}", table.partitionName(month), e);
+                }
+            }
+        }
+        log.debug("Partition creation finished, {} created", created);
+        return created;
+    }
+
+    /**
+     * Detaches months that ended more than {@code retentionMonths} ago and are closed: no unpaid
+     * installment or running transaction left, and nothing in them paid or ended after the cutoff.
+     */
+    @Override
+    public int detachClosedPartitions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(retentionMonths);
+        int detached = 0;
+        for (PartitionedTable table : PartitionedTable.values()) {
+            for (YearMonth month : partitionRepository.findMonths(table)) {
+                if (month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                    break;
+                }
+                try {
+                    if (!partitionRepository.isClosed(table, month, cutoff)) {
+                        log.debug("Partition {} still has open rows, kept", table.partitionName(month));
+                        continue;
+                    }
+                    partitionRepository.detach(table, month, detachLockTimeout);
+                    detached++;
+                    log.info("Detached partition {}", table.partitionName(month));
+                } catch (DataAccessException e) {
+                    log.warn("Failed to detach partition {}: {}", table.partitionName(month), e.getMessage());
+                }
+            }
+        }
+        log.debug("Partition retention finished, {} detached", detached);
+        return detached;
+    }
+}
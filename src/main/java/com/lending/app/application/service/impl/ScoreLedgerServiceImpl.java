@@ -0,0 +1,82 @@
+package com.lending.app.application.service.impl;
+
+import com.lending.app.application.service.ScoreLedgerService;
+import com.lending.app.model.entity.ScoreLedgerEntry;
+import com.lending.app.model.enums.ScoreTransactionType;
+import com.lending.app.repository.ScoreLedgerRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Timed("lending.service")
+@Service
+public class ScoreLedgerServiceImpl implements ScoreLedgerService {
+
+    private final ScoreLedgerRepository scoreLedgerRepository;
+
+    public ScoreLedgerServiceImpl(ScoreLedgerRepository scoreLedgerRepository) {
+        this.scoreLedgerRepository = scoreLedgerRepository;
+    }
+
+    /**
+     * Entries recorded inside a transaction are buffered and written in one batch right
+     * before it commits, so a multi-user operation costs a single round trip for its ledger rows.
+     */
+    @Override
+    public void record(String userId, ScoreTransactionType type, int delta, String referenceId) {
+        ScoreLedgerEntry entry = new ScoreLedgerEntry();
+        entry.setUserId(userId);
+        entry.setType(type);
+        entry.setDelta(delta);
+        entry.setReferenceId(referenceId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scoreLedgerRepository.insertAll(List.of(entry));
+            log.debug("Ledger entry {} {} written for userId: {}", type, delta, userId);
+            return;
+        }
+        pendingEntries().add(entry);
+        log.debug("Ledger entry {} {} buffered for userId: {}", type, delta, userId);
+    }
+
+    /**
+     * Writes the entries right away rather than before commit, skipping any that an award already
+     * recorded for the same user, type and reference, and returns the ones written. The unique
+     * key behind this holds across nodes, so a redelivered award is recorded at most once.
+     */
+    @Override
+    public List<ScoreLedgerEntry> recordAbsent(List<ScoreLedgerEntry> entries) {
+        List<ScoreLedgerEntry> inserted = scoreLedgerRepository.insertAbsent(entries);
+        log.debug("{} of {} ledger entries written, the rest were already recorded", inserted.size(), entries.size());
+        return inserted;
+    }
+
+    private List<ScoreLedgerEntry> pendingEntries() {
+        @SuppressWarnings("unchecked")
+        List<ScoreLedgerEntry> pending = (List<ScoreLedgerEntry>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<ScoreLedgerEntry> buffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, buffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                scoreLedgerRepository.insertAll(buffer);
+                log.debug("Flushed {} ledger entries", buffer.size());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ScoreLedgerServiceImpl.this);
+            }
+        });
+        return buffer;
+    }
+}
@@ -0,0 +1,48 @@
+package com.lending.app.application.service.impl;
+
+import com.lending.app.application.service.ScoreReservationService;
+import com.lending.app.application.service.UserService;
+import com.lending.app.exception.InsufficientScoreException;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Deducts score with conditional in-database updates instead of {@code SELECT ... FOR UPDATE}
+ * followed by a write. A row is only locked by the update that actually debits it, and
+ * multi-user reservations always touch rows in ascending id order, so two applications that
+ * name each other as guarantor take their locks in the same sequence and cannot deadlock.
+ */
+@Slf4j
+@Timed("lending.service")
+@Service
+public class ScoreReservationServiceImpl implements ScoreReservationService {
+
+    private final UserService userService;
+
+    public ScoreReservationServiceImpl(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    @Transactional
+    public boolean tryReserve(String userId, int amount) {
+        return userService.reserveScore(userId, amount);
+    }
+
+    @Override
+    @Transactional
+    public void reserve(Map<String, Integer> amountsByUserId) {
+        log.debug("Reserving score for {} users in id order", amountsByUserId.size());
+        for (Map.Entry<String, Integer> entry : new TreeMap<>(amountsByUserId).entrySet()) {
+            if (!userService.reserveScore(entry.getKey(), entry.getValue())) {
+                log.warn("Score reservation failed: userId {} cannot cover {}", entry.getKey(), entry.getValue());
+                throw new InsufficientScoreException();
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.lending.app.application.service.impl;
 
+import com.lending.app.config.AggregateCache;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.user.CreateUserCommand;
 import com.lending.app.model.record.user.UpdateUserCommand;
 import com.lending.app.model.record.user.UserMessage;
@@ -11,17 +13,30 @@ import com.lending.app.mapper.UserMapper;
 import com.lending.app.util.SecurityUtils;
 import com.lending.app.exception.NotFoundException;
 import com.lending.app.exception.AlreadyExistsException;
+import com.lending.app.security.ActiveUserCache;
+import com.lending.app.exception.InvalidException;
+import com.lending.app.util.UlidUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Timed("lending.service")
 @Service
 @Slf4j
 public class UserServiceImpl implements UserService {
@@ -29,17 +44,23 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final CacheManager cacheManager;
+    private final ActiveUserCache activeUserCache;
+    private final AggregateCache<UserMessage> userAggregateCache;
 
-    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder, CacheManager cacheManager,
+                           ActiveUserCache activeUserCache, AggregateCache<UserMessage> userAggregateCache) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
+        this.cacheManager = cacheManager;
+        this.activeUserCache = activeUserCache;
+        this.userAggregateCache = userAggregateCache;
     }
 
     @Override
     @Transactional
     @CachePut(value = "users", key = "#result.id")
-    @CacheEvict(value = "users_all", allEntries = true)
     public UserMessage save(CreateUserCommand command) {
         log.debug("Creating new user: {}", command.username());
 
@@ -54,17 +75,19 @@ public class UserServiceImpl implements UserService {
 
         User saved = saveInternal(userMapper.toEntity(command));
         log.info("User created successfully with id: {}", saved.getId());
-        return userMapper.toMessage(saved);
+        UserMessage message = userMapper.toMessage(saved);
+        userAggregateCache.put(saved.getId(), message);
+        return message;
     }
 
     @Override
     @Transactional
     @CachePut(value = "users", key = "#result.id")
-    @CacheEvict(value = "users_all", allEntries = true)
     public User save(User user) {
         log.debug("Saving user entity with username: {}", user.getUsername());
         User saved = userRepository.save(user);
         log.info("User entity saved with id: {}", saved.getId());
+        userAggregateCache.put(saved.getId(), userMapper.toMessage(saved));
         return saved;
     }
 
@@ -77,20 +100,61 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Cacheable(value = "users_all", key = "#root.methodName")
     public UserMessageSet getAll() {
         log.debug("Fetching all users");
-        Set<UserMessage> users = userRepository.findAll().stream()
+        return userAggregateCache.getAll()
+                .map(this::refresh)
+                .orElseGet(this::loadAll);
+    }
+
+    private UserMessageSet loadAll() {
+        long version = userAggregateCache.version();
+        Map<String, UserMessage> users = userRepository.findAll().stream()
                 .map(userMapper::toMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toMap(UserMessage::id, Function.identity()));
+        userAggregateCache.putAll(users, version);
         log.info("Fetched {} users", users.size());
+        return new UserMessageSet(new HashSet<>(users.values()));
+    }
+
+    private UserMessageSet refresh(AggregateCache.Snapshot<UserMessage> snapshot) {
+        Set<UserMessage> users = new HashSet<>(snapshot.values());
+        if (!snapshot.staleIds().isEmpty()) {
+            log.debug("Reloading {} stale users", snapshot.staleIds().size());
+            Map<String, UserMessage> reloaded = userRepository.findAllActiveByIdIn(snapshot.staleIds()).stream()
+                    .map(userMapper::toMessage)
+                    .collect(Collectors.toMap(UserMessage::id, Function.identity()));
+            snapshot.staleMarks().forEach((id, staleMark) -> {
+                UserMessage user = reloaded.get(id);
+                if (user != null) {
+                    users.add(user);
+                }
+                userAggregateCache.replaceStale(id, user, staleMark);
+            });
+        }
         return new UserMessageSet(users);
     }
 
+    @Override
+    public CursorPage<UserMessage> getPage(String after, int size) {
+        log.debug("Fetching users page after: {}, size: {}", after, size);
+        if (after != null && !UlidUtils.isValid(after)) {
+            throw new InvalidException("cursor");
+        }
+        List<UserMessage> rows = userRepository.findPageAfter(after != null ? after : UlidUtils.MIN, Limit.of(size + 1));
+        return CursorPage.of(rows, size, UserMessage::id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<UserMessage> consumer) {
+        log.debug("Exporting all users");
+        userRepository.streamAll(consumer);
+    }
+
     @Override
     @Transactional
     @CachePut(value = "users", key = "#result.id")
-    @CacheEvict(value = "users_all", allEntries = true)
     public UserMessage update(UpdateUserCommand command) {
         String id = SecurityUtils.getCurrentUserId();
         log.debug("Updating user with id: {}", id);
@@ -112,24 +176,37 @@ public class UserServiceImpl implements UserService {
         }
         User saved = saveInternal(existing);
         log.info("User updated successfully with id: {}", saved.getId());
-        return userMapper.toMessage(saved);
+        UserMessage message = userMapper.toMessage(saved);
+        userAggregateCache.put(saved.getId(), message);
+        return message;
     }
 
     @Override
-    public User getUserForUpdate(String id) {
-        log.debug("Fetching user for update with id: {}", id);
-        User user = userRepository.findByIdForUpdate(id)
-                .orElseThrow(() -> {
-                    log.warn("User not found for update with id: {}", id);
-                    return new NotFoundException("User");
-                });
-        log.info("User fetched for update with id: {}", user.getId());
-        return user;
+    public User getReference(String id) {
+        return userRepository.getReferenceById(id);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"users", "users_all"}, allEntries = true)
+    @CacheEvict(value = "users", key = "#id")
+    public boolean reserveScore(String id, int amount) {
+        log.debug("Reserving score {} for userId: {}", amount, id);
+        if (userRepository.reserveScore(id, amount) == 0) {
+            if (!userRepository.existsById(id)) {
+                log.warn("User not found for score reservation with id: {}", id);
+                throw new NotFoundException("User");
+            }
+            log.debug("Score reservation of {} rejected for userId: {}", amount, id);
+            return false;
+        }
+        userAggregateCache.markStale(List.of(id));
+        log.info("Score {} reserved for userId: {}", amount, id);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = "users", key = "#id")
     public void delete(String id) {
         log.debug("Deleting user with id: {}", id);
         if (!userRepository.existsById(id)) {
@@ -137,25 +214,38 @@ public class UserServiceImpl implements UserService {
             throw new NotFoundException("User");
         }
         userRepository.softDeleteById(id);
+        activeUserCache.revoke(id);
+        userAggregateCache.remove(id);
         log.info("User soft-deleted with id: {}", id);
     }
 
     @Override
     @Transactional
-    @CachePut(value = "users", key = "#user.id")
-    @CacheEvict(value = "users_all", allEntries = true)
-    public UserMessage changeScore(User user, int delta) {
-        log.debug("Changing score for userId: {} by delta: {}", user.getId(), delta);
+    @CacheEvict(value = "users", key = "#id")
+    public void changeScore(String id, int delta) {
+        log.debug("Changing score for userId: {} by delta: {}", id, delta);
+        if (userRepository.addScore(id, delta) == 0) {
+            log.warn("User not found for score change with id: {}", id);
+            throw new NotFoundException("User");
+        }
+        userAggregateCache.markStale(List.of(id));
+        log.info("User score changed for userId: {} by delta: {}", id, delta);
+    }
 
-        User existing = loadUser(user.getId());
-        existing.setScore(existing.getScore() + delta);
-        User saved = saveInternal(existing);
+    @Override
+    @Transactional
+    public void changeScores(Map<String, Integer> deltasByUserId) {
+        log.debug("Changing score for {} users in one batch", deltasByUserId.size());
+        userRepository.addScores(deltasByUserId);
 
-        log.info("User score updated for userId: {}. New score: {}", saved.getId(), saved.getScore());
-        return userMapper.toMessage(saved);
+        Cache users = cacheManager.getCache("users");
+        if (users != null) {
+            deltasByUserId.keySet().forEach(users::evict);
+        }
+        userAggregateCache.markStale(deltasByUserId.keySet());
+        log.info("User scores changed for {} users", deltasByUserId.size());
     }
 
-
     @Override
     public boolean existsByUsername(String username) {
         return userRepository.existsByUsername(username);
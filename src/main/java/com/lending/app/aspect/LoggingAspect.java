@@ -4,36 +4,96 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry/exit tracing for debugging sessions. Timings live in the {@code @Timed} metrics, so
+ * this aspect is off unless {@code logging.aspect.enabled} is set. When on, a call is traced
+ * at debug only if the logger allows it and the call falls in {@code logging.aspect.sample-rate};
+ * independently, calls slower than {@code logging.aspect.slow-threshold-ms} are logged at warn,
+ * and every call that throws is logged at error whether or not it was sampled.
+ * Call-site names are resolved once per method, so a call that logs nothing formats nothing.
+ */
 @Aspect
 @Component
+@ConditionalOnProperty(name = "logging.aspect.enabled", havingValue = "true")
 public class LoggingAspect {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingAspect.class);
 
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final ConcurrentMap<Method, String> callSites = new ConcurrentHashMap<>();
+
+    public LoggingAspect(
+            @Value("${logging.aspect.sample-rate}") double sampleRate,
+            @Value("${logging.aspect.slow-threshold-ms}") long slowThresholdMs
+    ) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
     @Pointcut("within(com.lending.app..service..*) || within(com.lending.app..controller..*)")
     public void appMethods() {}
 
     @Around("appMethods()")
     public Object logExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-
-        log.debug("Entering {}.{}()", className, methodName);
-        long start = System.currentTimeMillis();
+        boolean traced = log.isDebugEnabled() && sampled();
+        String callSite = traced ? callSite(joinPoint) : null;
+        if (traced) {
+            log.debug("Entering {}", callSite);
+        }
+        long start = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long duration = System.currentTimeMillis() - start;
-            log.debug("Exiting {}.{}() with result={} ({} ms)", className, methodName, result, duration);
+            long elapsed = System.nanoTime() - start;
+            if (slow(elapsed)) {
+                log.warn("Slow call {} took {} ms", traced ? callSite : callSite(joinPoint), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            } else if (traced) {
+                log.debug("Exiting {} ({} µs)", callSite, TimeUnit.NANOSECONDS.toMicros(elapsed));
+            }
+            if (traced && log.isTraceEnabled()) {
+                log.trace("{} returned {}", callSite, result);
+            }
             return result;
         } catch (Throwable ex) {
-            long duration = System.currentTimeMillis() - start;
-            log.error("Exception in {}.{}() ({} ms): {}", className, methodName, duration, ex.getMessage());
+            long elapsed = System.nanoTime() - start;
+            String site = traced ? callSite : callSite(joinPoint);
+            log.error("Exception in {} ({} ms): {}", site, TimeUnit.NANOSECONDS.toMillis(elapsed), ex.getMessage());
+            if (slow(elapsed)) {
+                log.warn("Slow call {} took {} ms", site, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
             throw ex;
         }
     }
+
+    private boolean slow(long elapsedNanos) {
+        return slowThresholdNanos > 0 && elapsedNanos >= slowThresholdNanos;
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private String callSite(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String callSite = callSites.get(method);
+        return callSite != null ? callSite : callSites.computeIfAbsent(method, LoggingAspect::describe);
+    }
+
+    private static String describe(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName() + "()";
+    }
 }
@@ -0,0 +1,56 @@
+package com.lending.app.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cached "all entities" view stored entry by entry, so a single write patches one entry instead
+ * of invalidating the whole aggregate. Entries whose new value the writer does not have at hand
+ * (e.g. after an atomic score update) are marked stale and reloaded by the next reader.
+ * <p>
+ * Readers write back what they loaded only if nothing was written in between: a rebuild only if
+ * {@link #version()} has not moved since it was read, a reloaded entry only if it still holds the
+ * stale mark the snapshot saw. Otherwise a concurrent writer's mark could be overwritten with the
+ * value it was invalidating.
+ */
+public interface AggregateCache<V> {
+
+    /**
+     * @return the cached aggregate, or empty when it has not been built (or has expired)
+     */
+    Optional<Snapshot<V>> getAll();
+
+    /**
+     * @return a counter moved by every write; read it before loading the values for {@link #putAll}
+     */
+    long version();
+
+    /**
+     * Replaces the aggregate, unless any entry was written since {@code version} was read.
+     */
+    void putAll(Map<String, V> valuesById, long version);
+
+    void put(String id, V value);
+
+    void markStale(Collection<String> ids);
+
+    void remove(String id);
+
+    /**
+     * Writes the reloaded value of a stale entry, or removes the entry when {@code value} is null,
+     * unless the entry no longer holds {@code staleMark}.
+     */
+    void replaceStale(String id, V value, String staleMark);
+
+    /**
+     * @param staleMarks the stale entries by id, each with the mark it held, for {@link #replaceStale}
+     */
+    record Snapshot<V>(Set<V> values, Map<String, String> staleMarks) {
+
+        public Set<String> staleIds() {
+            return staleMarks.keySet();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.lending.app.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Writes cache values as {@code [version][flags][body]} using a {@link RecordCodec}, without the
+ * type metadata and reflection of the JSON serializer. Bodies of at least
+ * {@code compressionThreshold} bytes are deflated when that makes them smaller. Entries with
+ * another version (including JSON left over from before the switch) deserialize to {@code null},
+ * which the cache treats as a miss.
+ */
+@Slf4j
+public class BinaryRecordRedisSerializer<T> implements RedisSerializer<T> {
+
+    static final byte VERSION = 1;
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    private final RecordCodec<T> codec;
+    private final int compressionThreshold;
+
+    public BinaryRecordRedisSerializer(RecordCodec<T> codec, int compressionThreshold) {
+        this.codec = codec;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+            codec.write(new DataOutputStream(body), value);
+            byte[] plain = body.toByteArray();
+
+            byte[] deflated = plain.length >= compressionThreshold ? deflate(plain) : null;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(2 + plain.length);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(VERSION);
+            if (deflated != null && deflated.length + Integer.BYTES < plain.length) {
+                out.writeByte(DEFLATED);
+                out.writeInt(plain.length);
+                out.write(deflated);
+            } else {
+                out.writeByte(PLAIN);
+                out.write(plain);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < 2) {
+            return null;
+        }
+        if (bytes[0] != VERSION) {
+            log.debug("Ignoring cache entry with unsupported format version {}", bytes[0]);
+            return null;
+        }
+        try {
+            byte[] plain = bytes[1] == DEFLATED ? inflate(bytes) : Arrays.copyOfRange(bytes, 2, bytes.length);
+            return codec.read(new DataInputStream(new ByteArrayInputStream(plain)));
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not read cache entry", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] plain) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(plain);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) throws DataFormatException {
+        int length = ((bytes[2] & 0xFF) << 24) | ((bytes[3] & 0xFF) << 16) | ((bytes[4] & 0xFF) << 8) | (bytes[5] & 0xFF);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, 6, bytes.length - 6);
+            byte[] plain = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(plain, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated cache entry");
+                }
+                read += n;
+            }
+            return plain;
+        } finally {
+            inflater.end();
+        }
+    }
+}
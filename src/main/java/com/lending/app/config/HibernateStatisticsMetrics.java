@@ -0,0 +1,39 @@
+package com.lending.app.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes the session factory's running statement and load counts, so a change that adds
+ * round trips to a hot path shows up as a rate instead of in the SQL log. Counts stay at zero
+ * unless {@code hibernate.generate_statistics} is on.
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.statements", "JDBC statements prepared", Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate.query.executions", "HQL and native queries executed", Statistics::getQueryExecutionCount);
+        counter(registry, "hibernate.entities.loads", "Entities loaded from the database", Statistics::getEntityLoadCount);
+        counter(registry, "hibernate.entities.fetches", "Lazy entity fetches", Statistics::getEntityFetchCount);
+        counter(registry, "hibernate.collections.loads", "Collections loaded from the database", Statistics::getCollectionLoadCount);
+        counter(registry, "hibernate.flushes", "Session flushes", Statistics::getFlushCount);
+        counter(registry, "hibernate.optimistic.failures", "Optimistic lock failures", Statistics::getOptimisticFailureCount);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, ToDoubleFunction<Statistics> count) {
+        FunctionCounter.builder(name, statistics, count)
+                .description(description)
+                .register(registry);
+    }
+}
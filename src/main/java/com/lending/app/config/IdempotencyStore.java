@@ -0,0 +1,37 @@
+package com.lending.app.config;
+
+/**
+ * Remembers the outcome of requests carrying an {@code Idempotency-Key}. A key is first claimed
+ * as pending, then either completed with the response to replay or released so the client may
+ * retry after a failure. Each key keeps the fingerprint of the request that claimed it, so a
+ * reuse of the key for a different request can be told apart from a retry.
+ */
+public interface IdempotencyStore {
+
+    Claim claim(String key, String fingerprint);
+
+    void complete(String key, String fingerprint, String response);
+
+    void release(String key);
+
+    enum State { ACQUIRED, IN_PROGRESS, COMPLETED }
+
+    /**
+     * {@code fingerprint} belongs to the request holding the key, and is null when the key is
+     * {@link State#ACQUIRED} or vanished while being read. {@code response} is set only when the
+     * key is {@link State#COMPLETED}.
+     */
+    record Claim(State state, String fingerprint, String response) {
+
+        static final Claim ACQUIRED = new Claim(State.ACQUIRED, null, null);
+        static final Claim IN_PROGRESS = new Claim(State.IN_PROGRESS, null, null);
+
+        static Claim inProgress(String fingerprint) {
+            return new Claim(State.IN_PROGRESS, fingerprint, null);
+        }
+
+        static Claim completed(String fingerprint, String response) {
+            return new Claim(State.COMPLETED, fingerprint, response);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.lending.app.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * In-heap {@link IdempotencyStore}, used without the {@code redis} profile and as the fallback
+ * while Redis is unreachable. Pending claims expire after {@code pendingTtl} so a request that
+ * died mid-flight does not block its key until the full retention runs out.
+ */
+public class LocalIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+
+    public LocalIdempotencyStore(long maxSize, Duration pendingTtl, Duration ttl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, Entry>writing((key, entry) -> entry.isPending() ? pendingTtl : ttl))
+                .build();
+    }
+
+    @Override
+    public Claim claim(String key, String fingerprint) {
+        Entry existing = entries.asMap().putIfAbsent(key, new Entry(fingerprint, null));
+        if (existing == null) {
+            return Claim.ACQUIRED;
+        }
+        return existing.isPending()
+                ? Claim.inProgress(existing.fingerprint())
+                : Claim.completed(existing.fingerprint(), existing.response());
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, String response) {
+        entries.put(key, new Entry(fingerprint, response));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.asMap().computeIfPresent(key, (k, entry) -> entry.isPending() ? null : entry);
+    }
+
+    private record Entry(String fingerprint, String response) {
+
+        boolean isPending() {
+            return response == null;
+        }
+    }
+}
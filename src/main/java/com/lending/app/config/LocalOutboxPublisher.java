@@ -0,0 +1,40 @@
+package com.lending.app.config;
+
+import com.lending.app.application.processor.InstallmentBonusConsumer;
+import com.lending.app.model.entity.OutboxEvent;
+import com.lending.app.model.enums.OutboxEventType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Single-node stand-in for the broker: consumers run inside the relay's transaction, so the
+ * work and the deletion of its outbox rows commit together.
+ */
+@Slf4j
+public class LocalOutboxPublisher implements OutboxPublisher {
+
+    private final InstallmentBonusConsumer installmentBonusConsumer;
+
+    public LocalOutboxPublisher(InstallmentBonusConsumer installmentBonusConsumer) {
+        this.installmentBonusConsumer = installmentBonusConsumer;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        Map<OutboxEventType, List<String>> payloads = events.stream().collect(Collectors.groupingBy(
+                OutboxEvent::getType,
+                () -> new EnumMap<>(OutboxEventType.class),
+                Collectors.mapping(OutboxEvent::getPayload, Collectors.toList())
+        ));
+        payloads.forEach((type, batch) -> {
+            switch (type) {
+                case INSTALLMENT_BONUS -> installmentBonusConsumer.consume(batch);
+            }
+            log.debug("Dispatched {} {} events in process", batch.size(), type);
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.lending.app.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Used without the {@code redis} profile: every read misses and rebuilds from the database.
+ */
+public class NoOpAggregateCache<V> implements AggregateCache<V> {
+
+    @Override
+    public Optional<Snapshot<V>> getAll() {
+        return Optional.empty();
+    }
+
+    @Override
+    public long version() {
+        return 0;
+    }
+
+    @Override
+    public void putAll(Map<String, V> valuesById, long version) {
+    }
+
+    @Override
+    public void put(String id, V value) {
+    }
+
+    @Override
+    public void markStale(Collection<String> ids) {
+    }
+
+    @Override
+    public void remove(String id) {
+    }
+
+    @Override
+    public void replaceStale(String id, V value, String staleMark) {
+    }
+}
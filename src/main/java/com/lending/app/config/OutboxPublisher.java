@@ -0,0 +1,15 @@
+package com.lending.app.config;
+
+import com.lending.app.model.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Hands a batch of outbox events to their consumers. Returning normally means every event in
+ * the batch is durably accepted and may be deleted; any failure must surface as an exception
+ * so the relay rolls back and retries the batch.
+ */
+public interface OutboxPublisher {
+
+    void publish(List<OutboxEvent> events);
+}
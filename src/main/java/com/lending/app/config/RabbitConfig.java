@@ -0,0 +1,93 @@
+package com.lending.app.config;
+
+import com.lending.app.model.enums.OutboxEventType;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("amqp")
+public class RabbitConfig {
+
+    public static final String EXCHANGE = "lending.events";
+    public static final String DEAD_LETTER_EXCHANGE = "lending.events.dlx";
+    public static final String INSTALLMENT_BONUS_QUEUE = "installment.bonus";
+
+    @Bean
+    public TopicExchange lendingEventsExchange() {
+        return new TopicExchange(EXCHANGE);
+    }
+
+    @Bean
+    public DirectExchange deadLetterExchange() {
+        return new DirectExchange(DEAD_LETTER_EXCHANGE);
+    }
+
+    @Bean
+    public Queue installmentBonusQueue() {
+        return QueueBuilder.durable(INSTALLMENT_BONUS_QUEUE)
+                .deadLetterExchange(DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(INSTALLMENT_BONUS_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public Queue installmentBonusDeadLetterQueue() {
+        return QueueBuilder.durable(INSTALLMENT_BONUS_QUEUE + ".dlq").build();
+    }
+
+    @Bean
+    public Binding installmentBonusBinding() {
+        return BindingBuilder.bind(installmentBonusQueue())
+                .to(lendingEventsExchange())
+                .with(OutboxEventType.INSTALLMENT_BONUS.getRoutingKey());
+    }
+
+    @Bean
+    public Binding installmentBonusDeadLetterBinding() {
+        return BindingBuilder.bind(installmentBonusDeadLetterQueue())
+                .to(deadLetterExchange())
+                .with(INSTALLMENT_BONUS_QUEUE);
+    }
+
+    @Bean
+    public OutboxPublisher outboxPublisher(
+            RabbitTemplate rabbitTemplate,
+            @Value("${outbox.amqp.confirm-timeout-ms}") long confirmTimeoutMs
+    ) {
+        return new RabbitOutboxPublisher(rabbitTemplate, EXCHANGE, Duration.ofMillis(confirmTimeoutMs));
+    }
+
+    /**
+     * Hands listeners whole batches of deliveries so a consumer applies them in one transaction.
+     * Messages that still fail once the configured retries are spent go to the dead-letter queue
+     * rather than being requeued forever.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${outbox.amqp.consumer-batch-size}") int consumerBatchSize
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(consumerBatchSize);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+}
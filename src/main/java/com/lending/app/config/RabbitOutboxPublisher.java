@@ -0,0 +1,47 @@
+package com.lending.app.config;
+
+import com.lending.app.model.entity.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Publishes a batch on one channel and waits for the broker's confirms once at the end,
+ * instead of a round trip per message. The outbox id travels as the message id.
+ */
+@Slf4j
+public class RabbitOutboxPublisher implements OutboxPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final Duration confirmTimeout;
+
+    public RabbitOutboxPublisher(RabbitTemplate rabbitTemplate, String exchange, Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxEvent event : events) {
+                MessageProperties properties = new MessageProperties();
+                properties.setMessageId(event.getId());
+                properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+                properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+                operations.send(exchange, event.getType().getRoutingKey(),
+                        new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+        log.debug("Published {} outbox events to {}", events.size(), exchange);
+    }
+}
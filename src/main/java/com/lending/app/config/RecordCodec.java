@@ -0,0 +1,16 @@
+package com.lending.app.config;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Field-by-field binary layout of one cached record type. Changing a layout means bumping
+ * {@link BinaryRecordRedisSerializer#VERSION} so entries written by older nodes read as misses.
+ */
+public interface RecordCodec<T> {
+
+    void write(DataOutputStream out, T value) throws IOException;
+
+    T read(DataInputStream in) throws IOException;
+}
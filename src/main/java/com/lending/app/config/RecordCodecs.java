@@ -0,0 +1,57 @@
+package com.lending.app.config;
+
+import com.lending.app.model.record.loan.LoanMessage;
+import com.lending.app.model.record.user.UserMessage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public final class RecordCodecs {
+
+    public static final RecordCodec<LoanMessage> LOAN = new RecordCodec<>() {
+        @Override
+        public void write(DataOutputStream out, LoanMessage loan) throws IOException {
+            writeString(out, loan.id());
+            writeString(out, loan.name());
+            out.writeLong(loan.amount());
+            out.writeInt(loan.numberOfInstallments());
+            out.writeInt(loan.requiredScore());
+            out.writeInt(loan.awardScore());
+        }
+
+        @Override
+        public LoanMessage read(DataInputStream in) throws IOException {
+            return new LoanMessage(readString(in), readString(in), in.readLong(), in.readInt(), in.readInt(), in.readInt());
+        }
+    };
+
+    public static final RecordCodec<UserMessage> USER = new RecordCodec<>() {
+        @Override
+        public void write(DataOutputStream out, UserMessage user) throws IOException {
+            writeString(out, user.id());
+            writeString(out, user.username());
+            writeString(out, user.email());
+            out.writeInt(user.score());
+        }
+
+        @Override
+        public UserMessage read(DataInputStream in) throws IOException {
+            return new UserMessage(readString(in), readString(in), readString(in), in.readInt());
+        }
+    };
+
+    private RecordCodecs() {
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -5,6 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lending.app.model.record.loan.LoanMessage;
+import com.lending.app.model.record.user.UserMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,19 +16,34 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @Profile("redis")
 public class RedisConfig {
 
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    /**
+     * Caches whose values are written with {@link BinaryRecordRedisSerializer} when
+     * {@code cache.redis.binary-values} is on; any other cache keeps the JSON default.
+     */
+    private static final Map<String, RecordCodec<?>> BINARY_CACHES = Map.of(
+            "loans", RecordCodecs.LOAN,
+            "users", RecordCodecs.USER
+    );
+
     @Bean
     public RedisCacheConfiguration cacheConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(TTL)
                 .disableCachingNullValues()
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
@@ -34,10 +53,65 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        return RedisCacheManager.builder(redisConnectionFactory)
+    public TwoTierCacheManager cacheManager(
+            RedisConnectionFactory redisConnectionFactory,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${cache.near.max-size}") long nearMaxSize,
+            @Value("${cache.near.ttl-ms}") long nearTtlMs,
+            @Value("${cache.redis.binary-values}") boolean binaryValues,
+            @Value("${cache.redis.compression-threshold}") int compressionThreshold
+    ) {
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(cacheConfiguration())
-                .build();
+                .enableStatistics();
+        if (binaryValues) {
+            BINARY_CACHES.forEach((name, codec) -> builder.withCacheConfiguration(name, cacheConfiguration().serializeValuesWith(
+                    RedisSerializationContext.SerializationPair.fromSerializer(new BinaryRecordRedisSerializer<>(codec, compressionThreshold))
+            )));
+        }
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.initializeCaches();
+        return new TwoTierCacheManager(redisCacheManager, redisTemplate, meterRegistry, nearMaxSize, Duration.ofMillis(nearTtlMs));
+    }
+
+    @Bean
+    public AggregateCache<LoanMessage> loanAggregateCache(
+            StringRedisTemplate redisTemplate,
+            @Value("${cache.redis.compression-threshold}") int compressionThreshold
+    ) {
+        return new RedisHashAggregateCache<>("loans_all", redisTemplate, new BinaryRecordRedisSerializer<>(RecordCodecs.LOAN, compressionThreshold), TTL);
+    }
+
+    @Bean
+    public AggregateCache<UserMessage> userAggregateCache(
+            StringRedisTemplate redisTemplate,
+            @Value("${cache.redis.compression-threshold}") int compressionThreshold
+    ) {
+        return new RedisHashAggregateCache<>("users_all", redisTemplate, new BinaryRecordRedisSerializer<>(RecordCodecs.USER, compressionThreshold), TTL);
+    }
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${idempotency.local.max-size}") long localMaxSize,
+            @Value("${idempotency.pending-ttl-ms}") long pendingTtlMs,
+            @Value("${idempotency.ttl-ms}") long ttlMs
+    ) {
+        Duration pendingTtl = Duration.ofMillis(pendingTtlMs);
+        Duration ttl = Duration.ofMillis(ttlMs);
+        return new RedisIdempotencyStore(redisTemplate, new LocalIdempotencyStore(localMaxSize, pendingTtl, ttl), pendingTtl, ttl);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(
+            RedisConnectionFactory redisConnectionFactory,
+            TwoTierCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.CHANNEL));
+        return container;
     }
 
     @Bean
@@ -0,0 +1,209 @@
+package com.lending.app.config;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link AggregateCache} backed by one Redis hash: a field per entity id holding the encoded value,
+ * a stale mark for stale entries, and a marker field that exists only while the hash holds the
+ * complete aggregate. Patches are applied by Lua scripts that do nothing unless the marker exists,
+ * so they never recreate a partial hash after expiry. Writes made inside a transaction are applied
+ * after commit.
+ * <p>
+ * Every write also increments a version key next to the hash, which outlives it. A stale mark is
+ * a zero byte followed by the version that set it, so marking an entry stale again always changes
+ * its value and a reader's conditional write-back sees it.
+ */
+public class RedisHashAggregateCache<V> implements AggregateCache<V> {
+
+    private static final byte[] COMPLETE = "__complete__".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] STALE_PREFIX = {0};
+
+    private static final byte[] REPLACE = """
+            if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] PATCH = """
+            redis.call('INCR', KEYS[2])
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            for i = 2, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] MARK_STALE = """
+            local stale = ARGV[2] .. redis.call('INCR', KEYS[2])
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            for i = 3, #ARGV do
+                redis.call('HSET', KEYS[1], ARGV[i], stale)
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] DELETE = """
+            redis.call('INCR', KEYS[2])
+            return redis.call('HDEL', KEYS[1], ARGV[1])
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] REPLACE_STALE = """
+            if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            if #ARGV == 3 then
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            else
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] key;
+    private final byte[] versionKey;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisSerializer<V> serializer;
+    private final Duration ttl;
+
+    public RedisHashAggregateCache(String key, StringRedisTemplate redisTemplate, RedisSerializer<V> serializer, Duration ttl) {
+        this.key = key.getBytes(StandardCharsets.UTF_8);
+        this.versionKey = (key + ":version").getBytes(StandardCharsets.UTF_8);
+        this.redisTemplate = redisTemplate;
+        this.serializer = serializer;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<Snapshot<V>> getAll() {
+        Map<byte[], byte[]> entries = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+                connection.hashCommands().hGetAll(key));
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<V> values = new HashSet<>();
+        Map<String, String> staleMarks = new HashMap<>();
+        boolean complete = false;
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            if (Arrays.equals(entry.getKey(), COMPLETE)) {
+                complete = true;
+                continue;
+            }
+            byte[] encoded = entry.getValue();
+            V value = encoded.length == 0 || encoded[0] == STALE_PREFIX[0] ? null : serializer.deserialize(encoded);
+            if (value != null) {
+                values.add(value);
+            } else {
+                // Anything unreadable is reloaded like a stale entry, and written back only if unchanged.
+                staleMarks.put(new String(entry.getKey(), StandardCharsets.UTF_8), new String(encoded, StandardCharsets.ISO_8859_1));
+            }
+        }
+        return complete ? Optional.of(new Snapshot<>(values, staleMarks)) : Optional.empty();
+    }
+
+    @Override
+    public long version() {
+        String version = redisTemplate.execute((RedisCallback<String>) connection -> {
+            byte[] value = connection.stringCommands().get(versionKey);
+            return value == null ? null : new String(value, StandardCharsets.UTF_8);
+        });
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    @Override
+    public void putAll(Map<String, V> valuesById, long version) {
+        List<byte[]> args = new ArrayList<>(4 + valuesById.size() * 2);
+        args.add(String.valueOf(ttl.toMillis()).getBytes(StandardCharsets.UTF_8));
+        args.add(String.valueOf(version).getBytes(StandardCharsets.UTF_8));
+        args.add(COMPLETE);
+        args.add(COMPLETE);
+        valuesById.forEach((id, value) -> {
+            args.add(id.getBytes(StandardCharsets.UTF_8));
+            args.add(serializer.serialize(value));
+        });
+        eval(REPLACE, args);
+    }
+
+    @Override
+    public void put(String id, V value) {
+        afterCommit(() -> eval(PATCH, List.of(COMPLETE, id.getBytes(StandardCharsets.UTF_8), serializer.serialize(value))));
+    }
+
+    @Override
+    public void markStale(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<byte[]> args = new ArrayList<>(2 + ids.size());
+        args.add(COMPLETE);
+        args.add(STALE_PREFIX);
+        ids.forEach(id -> args.add(id.getBytes(StandardCharsets.UTF_8)));
+        afterCommit(() -> eval(MARK_STALE, args));
+    }
+
+    @Override
+    public void remove(String id) {
+        afterCommit(() -> eval(DELETE, List.of(id.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Override
+    public void replaceStale(String id, V value, String staleMark) {
+        List<byte[]> args = new ArrayList<>(3);
+        args.add(id.getBytes(StandardCharsets.UTF_8));
+        args.add(staleMark.getBytes(StandardCharsets.ISO_8859_1));
+        if (value != null) {
+            args.add(serializer.serialize(value));
+        }
+        afterCommit(() -> eval(REPLACE_STALE, args));
+    }
+
+    private void eval(byte[] script, List<byte[]> args) {
+        byte[][] keysAndArgs = new byte[args.size() + 2][];
+        keysAndArgs[0] = key;
+        keysAndArgs[1] = versionKey;
+        for (int i = 0; i < args.size(); i++) {
+            keysAndArgs[i + 2] = args.get(i);
+        }
+        redisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2, keysAndArgs));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.lending.app.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * {@link IdempotencyStore} keeping one string per key: {@code "P" + fingerprint} while pending,
+ * {@code "D" + fingerprint + response} once completed. Fingerprints have a fixed length, so the
+ * response starts right after it. Claims are a single {@code SET NX PX}, so nodes agree on who runs a request.
+ * When Redis cannot be reached the store degrades to the local fallback, which still absorbs
+ * retries that land on the same node.
+ */
+@Slf4j
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String PENDING = "P";
+    private static final String DONE = "D";
+
+    private final StringRedisTemplate redisTemplate;
+    private final IdempotencyStore fallback;
+    private final Duration pendingTtl;
+    private final Duration ttl;
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate, IdempotencyStore fallback, Duration pendingTtl, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.pendingTtl = pendingTtl;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Claim claim(String key, String fingerprint) {
+        return withFallback(() -> {
+            String redisKey = KEY_PREFIX + key;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(redisKey, PENDING + fingerprint, pendingTtl))) {
+                return Claim.ACQUIRED;
+            }
+            String existing = redisTemplate.opsForValue().get(redisKey);
+            if (existing == null) {
+                // Expired or released between the two calls; let the client retry the claim.
+                return Claim.IN_PROGRESS;
+            }
+            int responseStart = 1 + fingerprint.length();
+            String existingFingerprint = existing.substring(1, responseStart);
+            return existing.startsWith(DONE)
+                    ? Claim.completed(existingFingerprint, existing.substring(responseStart))
+                    : Claim.inProgress(existingFingerprint);
+        }, () -> fallback.claim(key, fingerprint));
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, String response) {
+        withFallback(() -> {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, DONE + fingerprint + response, ttl);
+            return null;
+        }, () -> {
+            fallback.complete(key, fingerprint, response);
+            return null;
+        });
+    }
+
+    @Override
+    public void release(String key) {
+        withFallback(() -> redisTemplate.delete(KEY_PREFIX + key), () -> {
+            fallback.release(key);
+            return null;
+        });
+    }
+
+    private <T> T withFallback(Supplier<T> redis, Supplier<T> local) {
+        try {
+            return redis.get();
+        } catch (DataAccessException ex) {
+            log.warn("Redis unavailable for idempotency store, using local fallback: {}", ex.getMessage());
+            return local.get();
+        }
+    }
+}
@@ -1,27 +1,48 @@
 package com.lending.app.config;
 
+import com.lending.app.application.processor.InstallmentBonusConsumer;
+import com.lending.app.model.record.loan.LoanMessage;
+import com.lending.app.model.record.user.UserMessage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-import java.util.concurrent.Executor;
+import java.time.Duration;
 
 @Configuration
-@EnableAsync
 @EnableCaching
+@EnableScheduling
 public class ServiceConfiguration {
 
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("Async-");
-        executor.initialize();
-        return executor;
+    @Bean
+    @Profile("!redis")
+    public AggregateCache<LoanMessage> loanAggregateCache() {
+        return new NoOpAggregateCache<>();
+    }
+
+    @Bean
+    @Profile("!redis")
+    public AggregateCache<UserMessage> userAggregateCache() {
+        return new NoOpAggregateCache<>();
+    }
+
+    @Bean
+    @Profile("!redis")
+    public IdempotencyStore idempotencyStore(
+            @Value("${idempotency.local.max-size}") long maxSize,
+            @Value("${idempotency.pending-ttl-ms}") long pendingTtlMs,
+            @Value("${idempotency.ttl-ms}") long ttlMs
+    ) {
+        return new LocalIdempotencyStore(maxSize, Duration.ofMillis(pendingTtlMs), Duration.ofMillis(ttlMs));
+    }
+
+    @Bean
+    @Profile("!amqp")
+    public OutboxPublisher outboxPublisher(InstallmentBonusConsumer installmentBonusConsumer) {
+        return new LocalOutboxPublisher(installmentBonusConsumer);
     }
 
 }
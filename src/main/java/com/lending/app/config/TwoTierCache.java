@@ -0,0 +1,112 @@
+package com.lending.app.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link Cache} that answers reads from an in-heap near cache and falls back to the shared
+ * remote cache. Writes go to both tiers and are announced through {@code invalidation} so other
+ * nodes drop their near copies. The near cache's TTL bounds staleness if an announcement is lost.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> near;
+    private final BiConsumer<String, String> invalidation;
+
+    public TwoTierCache(Cache remote,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> near,
+                        BiConsumer<String, String> invalidation) {
+        this.remote = remote;
+        this.near = near;
+        this.invalidation = invalidation;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String nearKey = String.valueOf(key);
+        Object value = near.getIfPresent(nearKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            near.put(nearKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String nearKey = String.valueOf(key);
+        Object value = near.getIfPresent(nearKey);
+        if (value != null) {
+            return (T) value;
+        }
+        T loaded = remote.get(key, valueLoader);
+        if (loaded != null) {
+            near.put(nearKey, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String nearKey = String.valueOf(key);
+        if (value != null) {
+            near.put(nearKey, value);
+        } else {
+            near.invalidate(nearKey);
+        }
+        invalidation.accept(getName(), nearKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String nearKey = String.valueOf(key);
+        near.invalidate(nearKey);
+        invalidation.accept(getName(), nearKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        near.invalidateAll();
+        invalidation.accept(getName(), null);
+    }
+
+    void evictNear(String key) {
+        near.invalidate(key);
+    }
+
+    void clearNear() {
+        near.invalidateAll();
+    }
+}
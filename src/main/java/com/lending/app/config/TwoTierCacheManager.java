@@ -0,0 +1,112 @@
+package com.lending.app.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decorates the Redis cache manager with a per-node near cache. Every put, evict and clear is
+ * published on {@link #CHANNEL} as {@code node|cache[|key]}; other nodes drop the matching near
+ * entries, and a node ignores its own messages.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    public static final String CHANNEL = "cache:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager remote;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long nearMaxSize;
+    private final Duration nearTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remote,
+                               StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               long nearMaxSize,
+                               Duration nearTtl) {
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.nearMaxSize = nearMaxSize;
+        this.nearTtl = nearTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, ignored -> {
+            if (remoteCache instanceof RedisCache redisCache) {
+                new RedisCacheMetrics(redisCache, List.of()).bindTo(meterRegistry);
+            }
+            return new TwoTierCache(remoteCache, nearCache(name), this::publish);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 3) {
+            cache.evictNear(parts[2]);
+        } else {
+            cache.clearNear();
+        }
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> near = Caffeine.newBuilder()
+                .maximumSize(nearMaxSize)
+                .expireAfterWrite(nearTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, near, name + ".near");
+        return near;
+    }
+
+    private void publish(String cacheName, String key) {
+        String message = nodeId + SEPARATOR + cacheName + (key != null ? SEPARATOR + key : "");
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+}
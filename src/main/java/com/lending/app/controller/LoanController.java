@@ -1,25 +1,40 @@
 package com.lending.app.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lending.app.application.service.LoanService;
 import com.lending.app.model.record.base.BaseResponse;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.loan.LoanMessage;
 import com.lending.app.model.record.loan.LoanMessageSet;
 import com.lending.app.model.record.loan.SaveLoanCommand;
 import com.lending.app.model.record.loan.UpdateLoanCommand;
+import com.lending.app.util.NdjsonWriter;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/loans")
 public class LoanController {
 
     private final LoanService loanService;
+    private final ObjectMapper objectMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public LoanController(LoanService loanService) {
+    public LoanController(
+            LoanService loanService,
+            ObjectMapper objectMapper,
+            @Value("${pagination.default-size}") int defaultPageSize,
+            @Value("${pagination.max-size}") int maxPageSize
+    ) {
         this.loanService = loanService;
+        this.objectMapper = objectMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @PostMapping
@@ -47,6 +62,24 @@ public class LoanController {
     public ResponseEntity<BaseResponse<LoanMessageSet>> getAll() {
         return BaseResponse.success(loanService.getAll());
     }
-}
 
+    @GetMapping("/page")
+    public ResponseEntity<BaseResponse<CursorPage<LoanMessage>>> getPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size
+    ) {
+        int pageSize = Math.clamp(size != null ? size : defaultPageSize, 1, maxPageSize);
+        return BaseResponse.success(loanService.getPage(after, pageSize));
+    }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> {
+                    NdjsonWriter<LoanMessage> writer = new NdjsonWriter<>(objectMapper, out);
+                    loanService.exportAll(writer);
+                    writer.flush();
+                });
+    }
+}
@@ -2,6 +2,7 @@ package com.lending.app.controller;
 
 import com.lending.app.application.processor.InstallmentPaymentProcessor;
 import com.lending.app.application.processor.LoanApplicationProcessor;
+import com.lending.app.application.service.IdempotencyService;
 import com.lending.app.model.record.base.BaseResponse;
 import com.lending.app.model.record.loan.LoanApplicationCommand;
 import com.lending.app.model.record.loan.LoanApplicationMessage;
@@ -13,21 +14,37 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/operation")
 public class LoanOperationController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final LoanApplicationProcessor loanApplicationProcessor;
     private final InstallmentPaymentProcessor installmentPaymentProcessor;
+    private final IdempotencyService idempotencyService;
 
-    public LoanOperationController(LoanApplicationProcessor loanApplicationProcessor, InstallmentPaymentProcessor installmentPaymentProcessor) {
+    public LoanOperationController(
+            LoanApplicationProcessor loanApplicationProcessor,
+            InstallmentPaymentProcessor installmentPaymentProcessor,
+            IdempotencyService idempotencyService
+    ) {
         this.loanApplicationProcessor = loanApplicationProcessor;
         this.installmentPaymentProcessor = installmentPaymentProcessor;
+        this.idempotencyService = idempotencyService;
     }
 
     @PostMapping("/loan")
-    public ResponseEntity<BaseResponse<LoanApplicationMessage>> processLoanTransaction(@RequestBody LoanApplicationCommand application) {
-        return BaseResponse.success(loanApplicationProcessor.process(application));
+    public ResponseEntity<BaseResponse<LoanApplicationMessage>> processLoanTransaction(
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody LoanApplicationCommand application
+    ) {
+        return BaseResponse.success(idempotencyService.execute("loan", idempotencyKey, application,
+                () -> loanApplicationProcessor.process(application)));
     }
 
     @PostMapping("/installment")
-    public ResponseEntity<BaseResponse<LoanApplicationMessage>> processLoanInstallment(@RequestBody LoanInstallmentCommand installment) {
-        return BaseResponse.success(installmentPaymentProcessor.process(installment));
+    public ResponseEntity<BaseResponse<LoanApplicationMessage>> processLoanInstallment(
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody LoanInstallmentCommand installment
+    ) {
+        return BaseResponse.success(idempotencyService.execute("installment", idempotencyKey, installment,
+                () -> installmentPaymentProcessor.process(installment)));
     }
 }
@@ -2,27 +2,40 @@ package com.lending.app.controller;
 
 import com.lending.app.application.service.LoanTransactionService;
 import com.lending.app.model.record.base.BaseResponse;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.loan.UserLoanTransactionMessage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/loan-transactions")
 public class LoanTransactionController {
 
     private final LoanTransactionService loanTransactionService;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public LoanTransactionController(LoanTransactionService loanTransactionService) {
+    public LoanTransactionController(
+            LoanTransactionService loanTransactionService,
+            @Value("${pagination.default-size}") int defaultPageSize,
+            @Value("${pagination.max-size}") int maxPageSize
+    ) {
         this.loanTransactionService = loanTransactionService;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @GetMapping("/my-loans")
-    public ResponseEntity<BaseResponse<List<UserLoanTransactionMessage>>> getUserLoans() {
-        return BaseResponse.success(loanTransactionService.findUserLoanTransactionsByUserId());
+    public ResponseEntity<BaseResponse<CursorPage<UserLoanTransactionMessage>>> getUserLoans(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        int pageSize = Math.clamp(size != null ? size : defaultPageSize, 1, maxPageSize);
+        return BaseResponse.success(loanTransactionService.findUserLoanTransactionsByUserId(cursor, pageSize));
     }
 
 }
@@ -1,14 +1,20 @@
 package com.lending.app.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lending.app.application.service.UserService;
 import com.lending.app.model.record.base.BaseResponse;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.user.UpdateUserCommand;
 import com.lending.app.model.record.user.UserMessage;
 import com.lending.app.model.record.user.UserMessageSet;
+import com.lending.app.util.NdjsonWriter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 
 @RestController
@@ -17,9 +23,20 @@ import jakarta.validation.Valid;
 public class UserController {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
-    public UserController(UserService userService) {
+    public UserController(
+            UserService userService,
+            ObjectMapper objectMapper,
+            @Value("${pagination.default-size}") int defaultPageSize,
+            @Value("${pagination.max-size}") int maxPageSize
+    ) {
         this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @GetMapping
@@ -34,6 +51,26 @@ public class UserController {
         return BaseResponse.success(users);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<BaseResponse<CursorPage<UserMessage>>> getPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size
+    ) {
+        int pageSize = Math.clamp(size != null ? size : defaultPageSize, 1, maxPageSize);
+        return BaseResponse.success(userService.getPage(after, pageSize));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> {
+                    NdjsonWriter<UserMessage> writer = new NdjsonWriter<>(objectMapper, out);
+                    userService.exportAll(writer);
+                    writer.flush();
+                });
+    }
+
     @PutMapping
     public ResponseEntity<BaseResponse<UserMessage>> update(@Valid @RequestBody UpdateUserCommand command) {
         UserMessage updated = userService.update(command);
@@ -0,0 +1,10 @@
+package com.lending.app.exception;
+
+import com.lending.app.exception.base.BaseException;
+import com.lending.app.exception.base.ResponseCode;
+
+public class InvalidException extends BaseException {
+    public InvalidException(String field) {
+        super(ResponseCode.INVALID_EXCEPTION, field);
+    }
+}
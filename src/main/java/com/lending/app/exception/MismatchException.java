@@ -0,0 +1,10 @@
+package com.lending.app.exception;
+
+import com.lending.app.exception.base.BaseException;
+import com.lending.app.exception.base.ResponseCode;
+
+public class MismatchException extends BaseException {
+    public MismatchException(String field) {
+        super(ResponseCode.MISMATCH_EXCEPTION, field);
+    }
+}
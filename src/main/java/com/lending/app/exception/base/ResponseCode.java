@@ -17,6 +17,8 @@ public enum ResponseCode {
     INSUFFICIENT_SCORE_EXCEPTION(-5, "The available score is not sufficient to complete this loan application. " +
             "Please try again with a guarantor who has enough score or after improving your own score."),
     INSUFFICIENT_EXCEPTION(-6, "Insufficient %s"),
+    INVALID_EXCEPTION(-7, "Invalid %s"),
+    MISMATCH_EXCEPTION(-8, "%s was already used with a different request"),
 
     // Server errors
     INTERNAL_SERVER_ERROR(-100, "Internal server error");
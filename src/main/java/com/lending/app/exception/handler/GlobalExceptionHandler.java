@@ -1,6 +1,8 @@
 package com.lending.app.exception.handler;
 
 import com.lending.app.exception.AlreadyExistsException;
+import com.lending.app.exception.InvalidException;
+import com.lending.app.exception.MismatchException;
 import com.lending.app.exception.NotFoundException;
 import com.lending.app.exception.UnauthorizedException;
 import com.lending.app.exception.base.BaseException;
@@ -36,6 +38,18 @@ public class GlobalExceptionHandler {
         return build(ex, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler({InvalidException.class})
+    public ResponseEntity<BaseResponse<?>> handleInvalid(InvalidException ex) {
+        log.error("Invalid request: {}", ex.getMessage());
+        return build(ex, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler({MismatchException.class})
+    public ResponseEntity<BaseResponse<?>> handleMismatch(MismatchException ex) {
+        log.error("Unprocessable request: {}", ex.getMessage());
+        return build(ex, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<BaseResponse<?>> handleUnexpected(Exception ex) {
         log.error("Unexpected error", ex);
@@ -12,13 +12,15 @@ import java.time.LocalDateTime;
 @Entity
 @Table(
         indexes = {
-                @Index(name = "idx_installment_loan_txn_paid", columnList = "loan_transaction_id, paid")
+                @Index(name = "idx_installment_loan_txn_paid_due", columnList = "loan_transaction_id, paid, due_date"),
+                @Index(name = "idx_installment_open_penalty", columnList = "paid, penalized_at, id")
         }
 )
 public class Installment extends BaseEntity {
 
     @ManyToOne
-    @JoinColumn(name = "loan_transaction_id", nullable = false)
+    // loan_transaction is partitioned, so its id alone is not a key a foreign key can point at
+    @JoinColumn(name = "loan_transaction_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private LoanTransaction loanTransaction;
 
     @Column(nullable = false)
@@ -29,4 +31,6 @@ public class Installment extends BaseEntity {
     @Column(nullable = false)
     private boolean paid;
 
+    private LocalDateTime penalizedAt;
+
 }
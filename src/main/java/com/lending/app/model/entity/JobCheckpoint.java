@@ -0,0 +1,23 @@
+package com.lending.app.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Entity
+@Table(name = "job_checkpoint")
+public class JobCheckpoint {
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String position;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+}
@@ -5,19 +5,13 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 
 @EqualsAndHashCode(callSuper = true)
 @Data
 @Entity
 @Table(
-        uniqueConstraints = {
-                @UniqueConstraint(name = "uk_loan_name_deleted", columnNames = {"name", "deleted_at"})
-        },
-        indexes = {
-                @Index(name = "idx_loan_name_deleted", columnList = "name, deleted_at"),
-                @Index(name = "idx_loan_deleted_at", columnList = "deleted_at")
-        }
+        indexes = @Index(name = "idx_loan_deleted_at", columnList = "deleted_at")
 )
 public class Loan extends BaseEntity {
 
@@ -39,6 +33,6 @@ public class Loan extends BaseEntity {
     @Column(nullable = false)
     private int awardScore;
 
-    private String deletedAt;
+    private Instant deletedAt;
 
 }
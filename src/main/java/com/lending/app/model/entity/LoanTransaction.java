@@ -10,10 +10,14 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = true)
 @Data
 @Entity
-@Table
+@Table(
+        indexes = {
+                @Index(name = "idx_loan_transaction_borrower_start", columnList = "borrower_id, start_date, id")
+        }
+)
 public class LoanTransaction extends BaseEntity {
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private User borrower;
 
     @ManyToOne(optional = false)
@@ -27,7 +31,7 @@ public class LoanTransaction extends BaseEntity {
     @Column(nullable = false)
     private long paidAmount;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User guarantor;
 
 }
@@ -0,0 +1,26 @@
+package com.lending.app.model.entity;
+
+import com.lending.app.model.entity.base.BaseEntity;
+import com.lending.app.model.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Post-commit work written in the same transaction as the change that caused it. Rows are
+ * deleted by the relay once the broker has confirmed them, so the table only holds the backlog.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@Entity
+@Table(name = "outbox_event")
+public class OutboxEvent extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private OutboxEventType type;
+
+    @Column(nullable = false, updatable = false, length = 4000)
+    private String payload;
+
+}
@@ -0,0 +1,44 @@
+package com.lending.app.model.entity;
+
+import com.lending.app.model.entity.base.BaseEntity;
+import com.lending.app.model.entity.base.UlidJavaType;
+import com.lending.app.model.enums.ScoreTransactionType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@EqualsAndHashCode(callSuper = true)
+@Data
+@Entity
+@Table(
+        name = "score_ledger",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_score_ledger_user_type_reference", columnNames = {"user_id", "type", "reference_id"})
+        },
+        indexes = {
+                @Index(name = "idx_score_ledger_user_created", columnList = "user_id, created_at")
+        }
+)
+public class ScoreLedgerEntry extends BaseEntity {
+
+    @Column(nullable = false, updatable = false)
+    @JavaType(UlidJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private ScoreTransactionType type;
+
+    @Column(nullable = false, updatable = false)
+    private int delta;
+
+    @Column(updatable = false)
+    @JavaType(UlidJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
+    private String referenceId;
+
+}
@@ -12,22 +12,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.time.LocalDateTime;
+import java.time.Instant;
 
 @Data
 @Entity
 @EqualsAndHashCode(callSuper = true)
 @Table(
         name = "users",
-        uniqueConstraints = {
-                @UniqueConstraint(name = "uk_username_deleted", columnNames = {"username", "deleted_at"}),
-                @UniqueConstraint(name = "uk_email_deleted", columnNames = {"email", "deleted_at"})
-        },
-        indexes = {
-                @Index(name = "idx_username_deleted", columnList = "username, deleted_at"),
-                @Index(name = "idx_email_deleted", columnList = "email, deleted_at"),
-                @Index(name = "idx_deleted_at", columnList = "deleted_at")
-        }
+        indexes = @Index(name = "idx_deleted_at", columnList = "deleted_at")
 )
 public class User extends BaseEntity implements UserDetails {
 
@@ -48,7 +40,7 @@ public class User extends BaseEntity implements UserDetails {
     @Column(nullable = false)
     private int score;
 
-    private String deletedAt;
+    private Instant deletedAt;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
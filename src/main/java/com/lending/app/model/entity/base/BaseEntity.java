@@ -1,10 +1,13 @@
 package com.lending.app.model.entity.base;
 
-import de.huxhorn.sulky.ulid.ULID;
+import com.lending.app.util.UlidUtils;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 
 @Data
 @MappedSuperclass
@@ -12,22 +15,49 @@ public abstract class BaseEntity {
 
     @Id
     @Column(nullable = false, updatable = false, unique = true)
+    @JavaType(UlidJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     private String id;
 
     @Column(nullable = false, updatable = false)
-    private String createdAt;
+    private Instant createdAt;
 
     @Column(nullable = false)
-    private String updatedAt;
+    private Instant updatedAt;
+
+    /**
+     * Ids and timestamps are assigned on first use or on persist rather than in a constructor,
+     * because Hibernate instantiates every loaded row through it and overwrites both right away.
+     */
+    public String getId() {
+        if (id == null) {
+            id = UlidUtils.nextUlid();
+        }
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        if (updatedAt == null) {
+            updatedAt = getCreatedAt();
+        }
+        return updatedAt;
+    }
 
-    public BaseEntity() {
-        this.id = new ULID().nextULID();
-        this.createdAt = LocalDateTime.now().toString();
-        this.updatedAt = this.createdAt;
+    @PrePersist
+    protected void onCreate() {
+        getId();
+        getUpdatedAt();
     }
 
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now().toString();
+        this.updatedAt = Instant.now();
     }
 }
@@ -0,0 +1,68 @@
+package com.lending.app.model.entity.base;
+
+import com.lending.app.util.UlidUtils;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import java.util.UUID;
+
+/**
+ * Keeps ids as ULID strings in Java while storing them as 128-bit {@code uuid} values, half
+ * the width of the text form in every primary key, foreign key and index. A string that is
+ * not a ULID cannot name any row, so it binds as NULL and matches nothing, as an unknown id
+ * always did.
+ */
+public class UlidJavaType extends AbstractClassJavaType<String> {
+
+    private static final int CANONICAL_UUID_LENGTH = 36;
+
+    public UlidJavaType() {
+        super(String.class);
+    }
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+        return indicators.getJdbcType(SqlTypes.UUID);
+    }
+
+    @Override
+    public String toString(String value) {
+        return value;
+    }
+
+    @Override
+    public String fromString(CharSequence string) {
+        return string == null ? null : string.toString();
+    }
+
+    @Override
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (String.class.isAssignableFrom(type)) {
+            return type.cast(value);
+        }
+        if (UUID.class.isAssignableFrom(type)) {
+            return UlidUtils.isValid(value) ? type.cast(UlidUtils.toUuid(value)) : null;
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof UUID uuid) {
+            return UlidUtils.fromUuid(uuid);
+        }
+        if (value instanceof String string) {
+            return string.length() == CANONICAL_UUID_LENGTH ? UlidUtils.fromUuid(UUID.fromString(string)) : string;
+        }
+        throw unknownWrap(value.getClass());
+    }
+}
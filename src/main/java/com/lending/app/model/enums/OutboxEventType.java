@@ -0,0 +1,14 @@
+package com.lending.app.model.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OutboxEventType {
+    INSTALLMENT_BONUS("installment.bonus");
+
+    private final String routingKey;
+
+    OutboxEventType(String routingKey) {
+        this.routingKey = routingKey;
+    }
+}
@@ -0,0 +1,38 @@
+package com.lending.app.model.enums;
+
+import lombok.Getter;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Tables range-partitioned by month on a timestamp column. A month is closed once it holds no
+ * open row and nothing in it was closed after the retention cutoff.
+ */
+@Getter
+public enum PartitionedTable {
+    LOAN_TRANSACTION("loan_transaction", "start_date", "end_date IS NULL", "end_date"),
+    INSTALLMENT("installment", "due_date", "paid = false", "payment_date");
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final String tableName;
+    private final String keyColumn;
+    private final String openCondition;
+    private final String closedAtColumn;
+
+    PartitionedTable(String tableName, String keyColumn, String openCondition, String closedAtColumn) {
+        this.tableName = tableName;
+        this.keyColumn = keyColumn;
+        this.openCondition = openCondition;
+        this.closedAtColumn = closedAtColumn;
+    }
+
+    public String partitionName(YearMonth month) {
+        return tableName + "_p" + month.format(SUFFIX);
+    }
+
+    public String defaultPartitionName() {
+        return tableName + "_default";
+    }
+}
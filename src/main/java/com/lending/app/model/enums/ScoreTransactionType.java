@@ -5,5 +5,6 @@ public enum ScoreTransactionType {
     LOAN_AWARD,
     PENALTY,
     TRANSFER,
-    GUARANTEE_PLEDGE
+    GUARANTEE_PLEDGE,
+    GUARANTEE_AWARD
 }
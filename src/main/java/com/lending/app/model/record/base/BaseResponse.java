@@ -2,7 +2,7 @@ package com.lending.app.model.record.base;
 
 
 import com.lending.app.exception.base.ResponseCode;
-import de.huxhorn.sulky.ulid.ULID;
+import com.lending.app.util.UlidUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -17,7 +17,7 @@ public record BaseResponse<T>(
 ) {
 
     public BaseResponse(Integer code, String message, T result) {
-        this(code, message, new ULID().nextULID(), Instant.now().toString(), result);
+        this(code, message, UlidUtils.nextUlid(), Instant.now().toString(), result);
     }
 
     public static <T> ResponseEntity<BaseResponse<T>> success(T result) {
@@ -0,0 +1,26 @@
+package com.lending.app.model.record.base;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One keyset page; pass {@code nextCursor} as {@code after} to fetch the next page. It is
+ * {@code null} on the last page.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+
+    /**
+     * Builds a page from a query that fetched up to {@code size + 1} rows, the extra row only
+     * signalling that another page exists.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursor) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), cursor.apply(items.get(size - 1)));
+    }
+}
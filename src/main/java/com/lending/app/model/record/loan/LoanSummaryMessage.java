@@ -0,0 +1,9 @@
+package com.lending.app.model.record.loan;
+
+public record LoanSummaryMessage(
+        String id,
+        String name,
+        long amount,
+        int numberOfInstallments,
+        long eachInstallmentAmount
+) {}
@@ -1,7 +0,0 @@
-package com.lending.app.model.record.loan;
-
-public record LoanTransactionMessage(
-        String transactionId
-) {
-}
-
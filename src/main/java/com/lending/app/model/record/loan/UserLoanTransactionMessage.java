@@ -1,13 +1,36 @@
 package com.lending.app.model.record.loan;
 
-import com.lending.app.model.entity.Loan;
 import java.time.LocalDateTime;
 
 public record UserLoanTransactionMessage(
         String loanTransactionId,
-        Loan loan,
+        LoanSummaryMessage loan,
         long paidAmount,
         LocalDateTime startDate,
         LocalDateTime endDate
 ) {
+
+    /**
+     * Flat form used by the JPQL constructor projection, which cannot build the nested loan
+     * summary itself.
+     */
+    public UserLoanTransactionMessage(
+            String loanTransactionId,
+            String loanId,
+            String loanName,
+            long loanAmount,
+            int numberOfInstallments,
+            long eachInstallmentAmount,
+            long paidAmount,
+            LocalDateTime startDate,
+            LocalDateTime endDate
+    ) {
+        this(
+                loanTransactionId,
+                new LoanSummaryMessage(loanId, loanName, loanAmount, numberOfInstallments, eachInstallmentAmount),
+                paidAmount,
+                startDate,
+                endDate
+        );
+    }
 }
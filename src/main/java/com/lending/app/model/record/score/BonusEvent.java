@@ -0,0 +1,15 @@
+package com.lending.app.model.record.score;
+
+import com.lending.app.model.enums.ScoreTransactionType;
+
+/**
+ * One share of an installment bonus. The borrower's share is a {@code LOAN_AWARD} and the
+ * guarantor's a {@code GUARANTEE_AWARD}, so both stay distinct even when they go to the same user.
+ */
+public record BonusEvent(
+        String userId,
+        int delta,
+        String referenceId,
+        ScoreTransactionType type
+) {
+}
@@ -1,21 +1,104 @@
 package com.lending.app.repository;
 
 import com.lending.app.model.entity.Installment;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface InstallmentRepository extends JpaRepository<Installment, String> {
+public interface InstallmentRepository extends JpaRepository<Installment, String>, InstallmentRepositoryCustom {
 
-    @Query(
-            value = "SELECT * FROM installment i " +
-                    "WHERE i.loan_transaction_id = :loanTransactionId " +
-                    "AND i.paid = false",
-            nativeQuery = true
-    )
-    Optional<Installment> findLastByLoanTransactionId(String loanTransactionId);
+    /**
+     * Loads the earliest unpaid installment of a borrower's transaction together with the
+     * transaction and loan it is paid against, and row-locks the installment and transaction for
+     * the rest of the payment. Rows whose transaction is already locked by a concurrent payment
+     * are skipped, so a duplicate submission finds nothing instead of waiting to pay the next
+     * installment. A lock timeout of -2 is how Hibernate spells SKIP LOCKED.
+     * <p>
+     * Every installment falls due after its transaction started. The start date is read in a
+     * subquery rather than through the join so that PostgreSQL has it before scanning installment
+     * and skips every month partition before it.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.lockMode.i", value = "PESSIMISTIC_WRITE"),
+            @QueryHint(name = "org.hibernate.lockMode.t", value = "PESSIMISTIC_WRITE"),
+            @QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")
+    })
+    @Query("""
+            SELECT i FROM Installment i
+            JOIN FETCH i.loanTransaction t
+            JOIN FETCH t.loan
+            WHERE t.id = :loanTransactionId
+              AND t.borrower.id = :borrowerId
+              AND i.paid = false
+              AND i.dueDate > (SELECT s.startDate FROM LoanTransaction s WHERE s.id = :loanTransactionId)
+            ORDER BY i.dueDate
+            """)
+    Optional<Installment> findPayableForUpdate(
+            @Param("loanTransactionId") String loanTransactionId,
+            @Param("borrowerId") String borrowerId,
+            Limit limit
+    );
+
+    /**
+     * Id of the {@code offset}-th unpenalized overdue installment after {@code after}, used as
+     * the upper bound of the next scan range. Walks only the open-penalty index, never the rows.
+     */
+    @Query("""
+            SELECT i.id FROM Installment i
+            WHERE i.paid = false AND i.penalizedAt IS NULL AND i.id > :after AND i.dueDate < :cutoff
+            ORDER BY i.id
+            LIMIT 1 OFFSET :offset
+            """)
+    Optional<String> findOverdueBoundary(
+            @Param("after") String after,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("offset") int offset
+    );
+
+    /**
+     * Highest unpenalized overdue id after {@code after}; {@code uuid} has no {@code MAX}, so it
+     * is read off the end of the same index instead.
+     */
+    @Query("""
+            SELECT i.id FROM Installment i
+            WHERE i.paid = false AND i.penalizedAt IS NULL AND i.id > :after AND i.dueDate < :cutoff
+            ORDER BY i.id DESC
+            LIMIT 1
+            """)
+    Optional<String> findLastOverdueId(@Param("after") String after, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Overdue installments in the id range {@code (after, upTo]} with their transaction and loan,
+     * locked so a payment or another scanner holding a row makes this one skip it. The transaction
+     * is locked as well, as in {@link #findPayableForUpdate}, so a payment arriving meanwhile finds
+     * nothing to pay instead of skipping the held installment and paying a later one.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.lockMode.i", value = "PESSIMISTIC_WRITE"),
+            @QueryHint(name = "org.hibernate.lockMode.t", value = "PESSIMISTIC_WRITE"),
+            @QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")
+    })
+    @Query("""
+            SELECT i FROM Installment i
+            JOIN FETCH i.loanTransaction t
+            JOIN FETCH t.loan
+            WHERE i.id > :after AND i.id <= :upTo
+              AND i.paid = false
+              AND i.penalizedAt IS NULL
+              AND i.dueDate < :cutoff
+            """)
+    List<Installment> findOverdueForUpdate(
+            @Param("after") String after,
+            @Param("upTo") String upTo,
+            @Param("cutoff") LocalDateTime cutoff
+    );
 }
@@ -0,0 +1,9 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.entity.Installment;
+
+import java.util.List;
+
+public interface InstallmentRepositoryCustom {
+    void insertAll(List<Installment> installments);
+}
@@ -0,0 +1,39 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.entity.Installment;
+import com.lending.app.util.UlidUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.time.ZoneOffset;
+
+/**
+ * A schedule is written once, right after its transaction, so its rows go out as one JDBC
+ * batch instead of a merge per installment.
+ */
+public class InstallmentRepositoryCustomImpl implements InstallmentRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO installment (id, created_at, updated_at, loan_transaction_id, due_date, paid)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InstallmentRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<Installment> installments) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, installments, installments.size(), (ps, installment) -> {
+            ps.setObject(1, UlidUtils.toUuid(installment.getId()));
+            ps.setObject(2, installment.getCreatedAt().atOffset(ZoneOffset.UTC));
+            ps.setObject(3, installment.getUpdatedAt().atOffset(ZoneOffset.UTC));
+            ps.setObject(4, UlidUtils.toUuid(installment.getLoanTransaction().getId()));
+            ps.setTimestamp(5, Timestamp.valueOf(installment.getDueDate()));
+            ps.setBoolean(6, installment.isPaid());
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package com.lending.app.repository;
 
 import com.lending.app.model.entity.Loan;
+import com.lending.app.model.record.loan.LoanMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +11,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface LoanRepository extends JpaRepository<Loan, String> {
+public interface LoanRepository extends JpaRepository<Loan, String>, LoanRepositoryCustom {
 
     @Query(
             value = """
@@ -26,28 +28,20 @@ public interface LoanRepository extends JpaRepository<Loan, String> {
 
 
     @Override
-    @Query(
-            value = """
-            SELECT * FROM loan
-            WHERE id = :id
-              AND deleted_at IS NULL
-        """,
-            nativeQuery = true
-    )
+    @Query("""
+            SELECT l FROM Loan l
+            WHERE l.id = :id
+              AND l.deletedAt IS NULL
+            """)
     Optional<Loan> findById(@Param("id") String id);
 
     @Override
-    @Query(
-            value = """
-            SELECT EXISTS (
-                SELECT 1 
-                FROM loan
-                WHERE id = :id
-                  AND deleted_at IS NULL
-            )
-        """,
-            nativeQuery = true
-    )
+    @Query("""
+            SELECT CASE WHEN COUNT(l) > 0 THEN true ELSE false END
+            FROM Loan l
+            WHERE l.id = :id
+              AND l.deletedAt IS NULL
+            """)
     boolean existsById(@Param("id") String id);
 
     @Override
@@ -61,13 +55,19 @@ public interface LoanRepository extends JpaRepository<Loan, String> {
     List<Loan> findAll();
 
     @Modifying
-    @Query(
-            value = """
-            UPDATE loan
-            SET deleted_at = CURRENT_TIMESTAMP
-            WHERE id = :id
-        """,
-            nativeQuery = true
-    )
+    @Query("""
+            UPDATE Loan l
+            SET l.deletedAt = INSTANT
+            WHERE l.id = :id
+            """)
     void softDeleteById(@Param("id") String id);
-}
\ No newline at end of file
+
+    @Query("""
+            SELECT new com.lending.app.model.record.loan.LoanMessage(l.id, l.name, l.amount, l.numberOfInstallments, l.requiredScore, l.awardScore)
+            FROM Loan l
+            WHERE l.deletedAt IS NULL
+              AND l.id > :after
+            ORDER BY l.id
+            """)
+    List<LoanMessage> findPageAfter(@Param("after") String after, Limit limit);
+}
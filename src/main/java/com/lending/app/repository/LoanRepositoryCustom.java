@@ -0,0 +1,14 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.record.loan.LoanMessage;
+
+import java.util.function.Consumer;
+
+public interface LoanRepositoryCustom {
+
+    /**
+     * Streams every active loan in id order through a forward-only cursor; must run inside a
+     * transaction so PostgreSQL honours the fetch size.
+     */
+    void streamAll(Consumer<LoanMessage> consumer);
+}
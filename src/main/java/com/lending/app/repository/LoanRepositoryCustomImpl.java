@@ -0,0 +1,46 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.record.loan.LoanMessage;
+import com.lending.app.util.UlidUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+import java.util.UUID;
+
+public class LoanRepositoryCustomImpl implements LoanRepositoryCustom {
+
+    private static final String STREAM_SQL = """
+            SELECT id, name, amount, number_of_installments, required_score, award_score
+            FROM loan
+            WHERE deleted_at IS NULL
+            ORDER BY id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public LoanRepositoryCustomImpl(JdbcTemplate jdbcTemplate, @Value("${export.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void streamAll(Consumer<LoanMessage> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new LoanMessage(
+                UlidUtils.fromUuid(rs.getObject("id", UUID.class)),
+                rs.getString("name"),
+                rs.getLong("amount"),
+                rs.getInt("number_of_installments"),
+                rs.getInt("required_score"),
+                rs.getInt("award_score")
+        )));
+    }
+}
@@ -1,11 +1,14 @@
 package com.lending.app.repository;
 
 import com.lending.app.model.entity.LoanTransaction;
+import com.lending.app.model.record.loan.UserLoanTransactionMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,21 +16,39 @@ import java.util.Optional;
 public interface LoanTransactionRepository extends JpaRepository<LoanTransaction, String> {
 
     @Override
-    @Query(
-            value = "SELECT * FROM loan_transaction " +
-                    "WHERE id = :id ",
-            nativeQuery = true
-    )
+    @Query("SELECT t FROM LoanTransaction t WHERE t.id = :id")
     Optional<LoanTransaction> findById(@Param("id") String id);
 
-    @Query(
-            value = """
-        SELECT * 
-        FROM loan_transaction
-        WHERE borrower_id = :userId
-    """,
-            nativeQuery = true
-    )
-    List<LoanTransaction> findByUserId(@Param("userId") String userId);
+    @Query("""
+            SELECT new com.lending.app.model.record.loan.UserLoanTransactionMessage(
+                t.id, l.id, l.name, l.amount, l.numberOfInstallments, l.eachInstallmentAmount,
+                t.paidAmount, t.startDate, t.endDate)
+            FROM LoanTransaction t JOIN t.loan l
+            WHERE t.borrower.id = :userId
+            ORDER BY t.startDate DESC, t.id DESC
+            """)
+    List<UserLoanTransactionMessage> findFirstPageByBorrowerId(@Param("userId") String userId, Limit limit);
+
+    /**
+     * Rows after the cursor in (startDate, id) order. The plain {@code startDate <= :startDate}
+     * bound lets PostgreSQL skip every month partition after the cursor and gives the borrower
+     * index a range to start from.
+     */
+    @Query("""
+            SELECT new com.lending.app.model.record.loan.UserLoanTransactionMessage(
+                t.id, l.id, l.name, l.amount, l.numberOfInstallments, l.eachInstallmentAmount,
+                t.paidAmount, t.startDate, t.endDate)
+            FROM LoanTransaction t JOIN t.loan l
+            WHERE t.borrower.id = :userId
+              AND t.startDate <= :startDate
+              AND (t.startDate < :startDate OR t.id < :id)
+            ORDER BY t.startDate DESC, t.id DESC
+            """)
+    List<UserLoanTransactionMessage> findPageByBorrowerIdBefore(
+            @Param("userId") String userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("id") String id,
+            Limit limit
+    );
 
 }
@@ -0,0 +1,101 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.enums.PartitionedTable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Month partitions of the {@link PartitionedTable}s, straight from the PostgreSQL catalog. Creation
+ * goes through {@code create_month_partition} from V5, which also moves the month's rows out of
+ * the default partition.
+ */
+@Repository
+public class PartitionRepository {
+
+    private static final Pattern MONTH_SUFFIX = Pattern.compile("_p(\\d{4})(\\d{2})$");
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns false if the month already had its partition.
+     */
+    public boolean createMonth(PartitionedTable table, YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT create_month_partition(?, ?, ?::timestamp)",
+                Boolean.class,
+                table.getTableName(), table.getKeyColumn(), Timestamp.valueOf(month.atDay(1).atStartOfDay())
+        ));
+    }
+
+    public List<YearMonth> findMonths(PartitionedTable table) {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, table.getTableName()).stream()
+                .filter(name -> name.startsWith(table.getTableName() + "_p"))
+                .map(PartitionRepository::parseMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Months that rows in the default partition belong to, i.e. months nobody created in time.
+     */
+    public List<YearMonth> findMonthsInDefault(PartitionedTable table) {
+        String sql = "SELECT DISTINCT date_trunc('month', %s) FROM %s".formatted(
+                table.getKeyColumn(), table.defaultPartitionName());
+        return jdbcTemplate.queryForList(sql, Timestamp.class).stream()
+                .map(start -> YearMonth.from(start.toLocalDateTime()))
+                .sorted()
+                .toList();
+    }
+
+    public boolean isClosed(PartitionedTable table, YearMonth month, LocalDateTime cutoff) {
+        String partition = table.partitionName(month);
+        String sql = """
+                SELECT NOT EXISTS (SELECT 1 FROM %1$s WHERE %2$s)
+                   AND coalesce((SELECT max(%3$s) FROM %1$s), '-infinity') < ?
+                """.formatted(partition, table.getOpenCondition(), table.getClosedAtColumn());
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, Timestamp.valueOf(cutoff)));
+    }
+
+    /**
+     * Detaching takes an exclusive lock on the parent, so the statement gives up after
+     * {@code lockTimeout} instead of queueing every reader and writer behind it. The detached
+     * table is kept as it is, to be archived or dropped outside the application.
+     */
+    @Transactional
+    public void detach(PartitionedTable table, YearMonth month, Duration lockTimeout) {
+        jdbcTemplate.queryForObject("SELECT set_config('lock_timeout', ?, true)", String.class,
+                lockTimeout.toMillis() + "ms");
+        jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(
+                table.getTableName(), table.partitionName(month)));
+    }
+
+    private static YearMonth parseMonth(String partitionName) {
+        Matcher matcher = MONTH_SUFFIX.matcher(partitionName);
+        if (!matcher.find()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.entity.ScoreLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoreLedgerRepository extends JpaRepository<ScoreLedgerEntry, String>, ScoreLedgerRepositoryCustom {
+}
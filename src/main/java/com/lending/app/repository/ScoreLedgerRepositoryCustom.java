@@ -0,0 +1,14 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.entity.ScoreLedgerEntry;
+
+import java.util.List;
+
+public interface ScoreLedgerRepositoryCustom {
+    void insertAll(List<ScoreLedgerEntry> entries);
+
+    /**
+     * Inserts the entries the unique key does not reject and returns those that were written.
+     */
+    List<ScoreLedgerEntry> insertAbsent(List<ScoreLedgerEntry> entries);
+}
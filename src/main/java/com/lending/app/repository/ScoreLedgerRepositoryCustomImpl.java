@@ -0,0 +1,68 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.entity.ScoreLedgerEntry;
+import com.lending.app.util.UlidUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ledger rows are never read back into the persistence context, so they are written
+ * with one plain JDBC batch instead of a merge per entity.
+ */
+public class ScoreLedgerRepositoryCustomImpl implements ScoreLedgerRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO score_ledger (id, created_at, updated_at, user_id, type, delta, reference_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ABSENT_SQL = INSERT_SQL.strip() + " ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScoreLedgerRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<ScoreLedgerEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), ScoreLedgerRepositoryCustomImpl::bind);
+    }
+
+    /**
+     * Relies on the per-row update counts of the batch, 1 for a written row and 0 for one that hit
+     * the unique key; a later writer of the same award blocks until the first commits and then
+     * gets 0.
+     */
+    @Override
+    public List<ScoreLedgerEntry> insertAbsent(List<ScoreLedgerEntry> entries) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_ABSENT_SQL, entries, entries.size(), ScoreLedgerRepositoryCustomImpl::bind);
+        List<ScoreLedgerEntry> inserted = new ArrayList<>(entries.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 1) {
+                    inserted.add(entries.get(index));
+                }
+                index++;
+            }
+        }
+        return inserted;
+    }
+
+    private static void bind(PreparedStatement ps, ScoreLedgerEntry entry) throws SQLException {
+        ps.setObject(1, UlidUtils.toUuid(entry.getId()));
+        ps.setObject(2, entry.getCreatedAt().atOffset(ZoneOffset.UTC));
+        ps.setObject(3, entry.getUpdatedAt().atOffset(ZoneOffset.UTC));
+        ps.setObject(4, UlidUtils.toUuid(entry.getUserId()));
+        ps.setString(5, entry.getType().name());
+        ps.setInt(6, entry.getDelta());
+        ps.setObject(7, entry.getReferenceId() != null ? UlidUtils.toUuid(entry.getReferenceId()) : null, Types.OTHER);
+    }
+}
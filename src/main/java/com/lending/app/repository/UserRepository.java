@@ -1,15 +1,18 @@
 package com.lending.app.repository;
 
 import com.lending.app.model.entity.User;
+import com.lending.app.model.record.user.UserMessage;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, UserRepositoryCustom {
 
     @Query(
             value = """
@@ -49,29 +52,21 @@ public interface UserRepository extends JpaRepository<User, String> {
     boolean existsByEmail(@Param("email") String email);
 
     @Override
-    @Query(
-            value = """
-                    SELECT u.* 
-                    FROM users u
-                    WHERE u.id = :id 
-                      AND u.deleted_at IS NULL
-                    """,
-            nativeQuery = true
-    )
+    @Query("""
+            SELECT u
+            FROM User u
+            WHERE u.id = :id
+              AND u.deletedAt IS NULL
+            """)
     Optional<User> findById(@Param("id") String id);
 
     @Override
-    @Query(
-            value = """
-                    SELECT EXISTS (
-                        SELECT 1 
-                        FROM users u
-                        WHERE u.id = :id 
-                          AND u.deleted_at IS NULL
-                    )
-                    """,
-            nativeQuery = true
-    )
+    @Query("""
+            SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END
+            FROM User u
+            WHERE u.id = :id
+              AND u.deletedAt IS NULL
+            """)
     boolean existsById(@Param("id") String id);
 
     @Override
@@ -85,18 +80,48 @@ public interface UserRepository extends JpaRepository<User, String> {
     )
     List<User> findAll();
 
+    @Query("""
+            SELECT u
+            FROM User u
+            WHERE u.id IN :ids
+              AND u.deletedAt IS NULL
+            """)
+    List<User> findAllActiveByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("""
+            SELECT new com.lending.app.model.record.user.UserMessage(u.id, u.username, u.email, u.score)
+            FROM User u
+            WHERE u.deletedAt IS NULL
+              AND u.id > :after
+            ORDER BY u.id
+            """)
+    List<UserMessage> findPageAfter(@Param("after") String after, Limit limit);
+
     @Modifying
-    @Query(
-            value = """
-                    UPDATE users 
-                    SET deleted_at = CURRENT_TIMESTAMP
-                    WHERE id = :id
-                    """,
-            nativeQuery = true
-    )
+    @Query("""
+            UPDATE User u
+            SET u.deletedAt = INSTANT
+            WHERE u.id = :id
+            """)
     void softDeleteById(@Param("id") String id);
 
-    @Query(value = "SELECT * FROM users u WHERE u.id = :id AND u.deleted_at IS NULL FOR UPDATE", nativeQuery = true)
-    Optional<User> findByIdForUpdate(@Param("id") String id);
+    @Modifying
+    @Query("""
+            UPDATE User u
+            SET u.score = u.score + :delta
+            WHERE u.id = :id
+              AND u.deletedAt IS NULL
+            """)
+    int addScore(@Param("id") String id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+            UPDATE User u
+            SET u.score = u.score - :amount
+            WHERE u.id = :id
+              AND u.deletedAt IS NULL
+              AND u.score >= :amount
+            """)
+    int reserveScore(@Param("id") String id, @Param("amount") int amount);
 
 }
\ No newline at end of file
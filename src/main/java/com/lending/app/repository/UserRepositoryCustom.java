@@ -0,0 +1,16 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.record.user.UserMessage;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface UserRepositoryCustom {
+    void addScores(Map<String, Integer> deltasByUserId);
+
+    /**
+     * Streams every active user in id order through a forward-only cursor; must run inside a
+     * transaction so PostgreSQL honours the fetch size.
+     */
+    void streamAll(Consumer<UserMessage> consumer);
+}
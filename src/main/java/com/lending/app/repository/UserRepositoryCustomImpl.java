@@ -0,0 +1,68 @@
+package com.lending.app.repository;
+
+import com.lending.app.model.record.user.UserMessage;
+import com.lending.app.util.UlidUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.UUID;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String ADD_SCORE_SQL = """
+            UPDATE users
+            SET score = score + ?
+            WHERE id = ?
+              AND deleted_at IS NULL
+            """;
+
+    private static final String STREAM_SQL = """
+            SELECT id, username, email, score
+            FROM users
+            WHERE deleted_at IS NULL
+            ORDER BY id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public UserRepositoryCustomImpl(JdbcTemplate jdbcTemplate, @Value("${export.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Rows are updated in user id order whatever order the caller collected them in, so two
+     * batches touching the same users lock them in the same order and cannot deadlock.
+     */
+    @Override
+    public void addScores(Map<String, Integer> deltasByUserId) {
+        List<Map.Entry<String, Integer>> ordered = new ArrayList<>(new TreeMap<>(deltasByUserId).entrySet());
+        jdbcTemplate.batchUpdate(ADD_SCORE_SQL, ordered, ordered.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setObject(2, UlidUtils.toUuid(entry.getKey()));
+        });
+    }
+
+    @Override
+    public void streamAll(Consumer<UserMessage> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new UserMessage(
+                UlidUtils.fromUuid(rs.getObject("id", UUID.class)),
+                rs.getString("username"),
+                rs.getString("email"),
+                rs.getInt("score")
+        )));
+    }
+}
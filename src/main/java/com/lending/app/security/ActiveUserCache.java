@@ -0,0 +1,49 @@
+package com.lending.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lending.app.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded, short-lived record of which user ids are still active, so stateless token
+ * authentication only reaches the database once per user per TTL. Deletions on this instance
+ * take effect immediately through {@link #revoke}; other instances catch up within the TTL.
+ */
+@Slf4j
+@Component
+public class ActiveUserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Boolean> active;
+
+    public ActiveUserCache(
+            UserRepository userRepository,
+            @Value("${jwt.active-user-cache.max-size}") long maxSize,
+            @Value("${jwt.active-user-cache.ttl-ms}") long ttlMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.active = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, active, "jwt.active-users");
+    }
+
+    public boolean isActive(String userId) {
+        return active.get(userId, userRepository::existsById);
+    }
+
+    public void revoke(String userId) {
+        log.debug("Revoking tokens of userId: {}", userId);
+        active.put(userId, false);
+    }
+}
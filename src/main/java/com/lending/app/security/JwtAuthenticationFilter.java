@@ -1,11 +1,15 @@
 package com.lending.app.security;
 
 import com.lending.app.model.util.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -14,16 +18,27 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+@Slf4j
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final ActiveUserCache activeUserCache;
+    private final boolean stateless;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserDetailsService userDetailsService,
+            ActiveUserCache activeUserCache,
+            @Value("${jwt.stateless}") boolean stateless
+    ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.activeUserCache = activeUserCache;
+        this.stateless = stateless;
     }
 
     @Override
@@ -32,28 +47,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            String username = jwtService.extractUsername(token);
-            String userId = jwtService.extractClaim(token, claims -> claims.get("uid", String.class));
+            Claims claims = jwtService.parseClaims(authHeader.substring(7));
+            String username = claims.getSubject();
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserPrincipal principal = toPrincipal(claims);
+                if (principal != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                UserPrincipal principal = new UserPrincipal(
-                        userId,
-                        userDetails.getUsername(),
-                        userDetails.getPassword(),
-                        userDetails.getAuthorities()
-                );
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    /**
+     * Builds the principal from the token alone when it carries a role claim; tokens issued
+     * before roles were embedded, or all tokens when stateless mode is off, still load the user.
+     */
+    private UserPrincipal toPrincipal(Claims claims) {
+        String userId = claims.get("uid", String.class);
+        String role = claims.get("role", String.class);
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (stateless && role != null) {
+            if (!activeUserCache.isActive(userId)) {
+                log.warn("Rejected token of inactive userId: {}", userId);
+                return null;
             }
+            return new UserPrincipal(userId, claims.getSubject(), null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
         }
-        filterChain.doFilter(request, response);
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return new UserPrincipal(
+                userId,
+                userDetails.getUsername(),
+                userDetails.getPassword(),
+                userDetails.getAuthorities()
+        );
     }
 
 }
@@ -1,12 +1,23 @@
 package com.lending.app.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.MacAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
@@ -17,15 +28,26 @@ import java.util.function.Function;
 public class JwtService {
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long expirationMs;
     private final MacAlgorithm algorithm = Jwts.SIG.HS256;
+    private final Cache<ByteBuffer, Claims> verified;
 
     public JwtService(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration-ms}") long expirationMs
+            @Value("${jwt.expiration-ms}") long expirationMs,
+            @Value("${jwt.claims-cache.max-size}") long claimsCacheSize,
+            MeterRegistry meterRegistry
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.expirationMs = expirationMs;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(Expiry.creating((ByteBuffer hash, Claims claims) -> timeToLive(claims)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt.claims");
     }
 
     public String generateToken(String subject, Map<String, Object> claims) {
@@ -44,7 +66,31 @@ public class JwtService {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
+    }
+
+    /**
+     * Verifies the signature and expiry once and returns every claim, for callers that need
+     * more than one of them. Verified claims are cached by token hash until the token expires,
+     * so repeated requests with the same token skip the HMAC and JSON parsing.
+     */
+    public Claims parseClaims(String token) {
+        return verified.get(hash(token), ignored -> parser.parseSignedClaims(token).getPayload());
+    }
+
+    private Duration timeToLive(Claims claims) {
+        if (claims.getExpiration() == null) {
+            return Duration.ofMillis(expirationMs);
+        }
+        Duration remaining = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.lending.app.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -30,16 +31,19 @@ public class SecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
-                                "/swagger-ui.html"
+                                "/swagger-ui.html",
+                                "/actuator/health"
                         ).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/loans").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/loans").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/loans").hasRole("ADMIN")
-                        .requestMatchers(HttpMethod.GET, "/api/users/all").hasAnyRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/users/all", "/api/users/page", "/api/users/export").hasAnyRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/users").hasAnyRole("ADMIN")
                         .anyRequest().authenticated()
                 )
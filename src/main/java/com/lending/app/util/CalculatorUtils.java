@@ -1,12 +1,21 @@
 package com.lending.app.util;
 
+import com.lending.app.model.entity.Installment;
 import com.lending.app.model.entity.Loan;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.temporal.ChronoUnit;
+
 @Component
 public class CalculatorUtils {
 
+    /**
+     * Paying early raises the bonus by 1% a day, but only for this many days. The whole schedule
+     * can be paid on day one, so an uncapped factor would pay far more than the loan's award score.
+     */
+    static final int MAX_EARLY_DAYS = 30;
+
     private static double annualRate;
 
     public CalculatorUtils(@Value("${annual.rate}") double annualRate) {
@@ -27,4 +36,34 @@ public class CalculatorUtils {
         return (int) Math.round(loan.getRequiredScore() * 0.1);
     }
 
+    public static int calculateInstallmentBonus(Installment installment) {
+        Loan loan = installment.getLoanTransaction().getLoan();
+        int baseBonus = loan.getAwardScore() / loan.getNumberOfInstallments();
+
+        long daysDiff = 0;
+        if (installment.getPaymentDate() != null) {
+            daysDiff = ChronoUnit.DAYS.between(installment.getDueDate(), installment.getPaymentDate());
+        }
+
+        double factor = 1.0 - (0.01 * daysDiff);
+        if (daysDiff < 0) {
+            factor = 1.0 + (0.01 * Math.min(Math.abs(daysDiff), MAX_EARLY_DAYS));
+        }
+        if (factor < 0) {
+            factor = 0;
+        }
+        return (int) Math.round(baseBonus * factor);
+    }
+
+    /**
+     * An overdue installment costs the borrower the base bonus paying it on time would have earned.
+     */
+    public static int calculateOverduePenalty(Loan loan) {
+        return Math.max(1, loan.getAwardScore() / loan.getNumberOfInstallments());
+    }
+
+    public static int calculateBorrowerBonusShare(int bonus) {
+        return (int) Math.round(bonus * 0.9);
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.lending.app.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes each accepted value as one JSON line, buffering output so rows streamed from a
+ * database cursor go to the client without being collected first.
+ */
+public class NdjsonWriter<T> implements Consumer<T> {
+
+    private final ObjectMapper objectMapper;
+    private final OutputStream out;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream out) {
+        this.objectMapper = objectMapper;
+        this.out = new BufferedOutputStream(out, 64 * 1024);
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,76 @@
+package com.lending.app.util;
+
+import de.huxhorn.sulky.ulid.ULID;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generation of ULIDs, and conversions between the 26-character ULID text used on the API and the
+ * 128-bit value stored in {@code uuid} columns. Both share the same big-endian bit layout, so byte
+ * order in the database follows the string order of the ids.
+ */
+public class UlidUtils {
+
+    private static final long RANDOM_HIGH_MASK = 0xFFFFL;
+
+    private static final ThreadLocal<MonotonicState> STATE = ThreadLocal.withInitial(MonotonicState::new);
+
+    /**
+     * Lowest possible ULID; keyset scans start after it.
+     */
+    public static final String MIN = "00000000000000000000000000";
+
+    /**
+     * Next ULID for the calling thread. Each thread keeps its last value and, within the same
+     * millisecond, increments its random part instead of drawing a new one, so ids created by
+     * one thread are strictly increasing even when the clock stalls or steps back. Random bits
+     * come from {@link ThreadLocalRandom}: ids are identifiers, not secrets, and this keeps
+     * generation free of locks and of {@code SecureRandom} seeding.
+     */
+    public static String nextUlid() {
+        return STATE.get().next();
+    }
+
+    public static UUID toUuid(String ulid) {
+        ULID.Value value = ULID.parseULID(ulid);
+        return new UUID(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    public static String fromUuid(UUID uuid) {
+        return new ULID.Value(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()).toString();
+    }
+
+    public static boolean isValid(String ulid) {
+        if (ulid == null || ulid.length() != MIN.length()) {
+            return false;
+        }
+        try {
+            ULID.parseULID(ulid);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static final class MonotonicState {
+        private long timestamp = -1;
+        private long randomHigh;
+        private long randomLow;
+
+        private String next() {
+            long now = System.currentTimeMillis();
+            if (now > timestamp) {
+                timestamp = now;
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                randomHigh = random.nextLong() & RANDOM_HIGH_MASK;
+                randomLow = random.nextLong();
+            } else if (++randomLow == 0 && (++randomHigh & ~RANDOM_HIGH_MASK) != 0) {
+                // 80 random bits exhausted within one millisecond: borrow the next one.
+                timestamp++;
+                randomHigh = 0;
+            }
+            return new ULID.Value(timestamp << 16 | randomHigh, randomLow).toString();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+-- Schema as Hibernate's ddl-auto=update left it before migrations took over: ULID text keys and
+-- LocalDateTime text timestamps on the four original tables. Databases created that way are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and pick up from V2; new
+-- databases start here.
+
+CREATE TABLE users (
+    id         varchar(255) NOT NULL,
+    created_at varchar(255) NOT NULL,
+    updated_at varchar(255) NOT NULL,
+    username   varchar(255) NOT NULL,
+    password   varchar(255) NOT NULL,
+    email      varchar(255) NOT NULL,
+    role       varchar(255) NOT NULL CHECK (role IN ('ADMIN', 'USER')),
+    score      integer      NOT NULL,
+    deleted_at varchar(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_username_deleted UNIQUE (username, deleted_at),
+    CONSTRAINT uk_email_deleted UNIQUE (email, deleted_at)
+);
+
+CREATE INDEX idx_username_deleted ON users (username, deleted_at);
+CREATE INDEX idx_email_deleted ON users (email, deleted_at);
+CREATE INDEX idx_deleted_at ON users (deleted_at);
+
+CREATE TABLE loan (
+    id                      varchar(255) NOT NULL,
+    created_at              varchar(255) NOT NULL,
+    updated_at              varchar(255) NOT NULL,
+    name                    varchar(255) NOT NULL,
+    amount                  bigint       NOT NULL,
+    number_of_installments  integer      NOT NULL,
+    each_installment_amount bigint       NOT NULL,
+    required_score          integer      NOT NULL,
+    award_score             integer      NOT NULL,
+    deleted_at              varchar(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_loan_name_deleted UNIQUE (name, deleted_at)
+);
+
+CREATE INDEX idx_loan_name_deleted ON loan (name, deleted_at);
+CREATE INDEX idx_loan_deleted_at ON loan (deleted_at);
+
+CREATE TABLE loan_transaction (
+    id           varchar(255) NOT NULL,
+    created_at   varchar(255) NOT NULL,
+    updated_at   varchar(255) NOT NULL,
+    borrower_id  varchar(255) NOT NULL,
+    loan_id      varchar(255) NOT NULL,
+    start_date   timestamp(6) NOT NULL,
+    end_date     timestamp(6),
+    paid_amount  bigint       NOT NULL,
+    guarantor_id varchar(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loan_transaction_borrower FOREIGN KEY (borrower_id) REFERENCES users (id),
+    CONSTRAINT fk_loan_transaction_loan FOREIGN KEY (loan_id) REFERENCES loan (id),
+    CONSTRAINT fk_loan_transaction_guarantor FOREIGN KEY (guarantor_id) REFERENCES users (id)
+);
+
+CREATE TABLE installment (
+    id                  varchar(255) NOT NULL,
+    created_at          varchar(255) NOT NULL,
+    updated_at          varchar(255) NOT NULL,
+    loan_transaction_id varchar(255) NOT NULL,
+    due_date            timestamp(6) NOT NULL,
+    payment_date        timestamp(6),
+    paid                boolean      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_installment_loan_transaction FOREIGN KEY (loan_transaction_id) REFERENCES loan_transaction (id)
+);
+
+CREATE INDEX idx_installment_loan_txn_paid ON installment (loan_transaction_id, paid);
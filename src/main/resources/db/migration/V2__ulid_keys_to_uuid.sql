@@ -0,0 +1,67 @@
+-- ULID keys move from varchar to uuid. The 128 ULID bits are copied unchanged, so ids keep their
+-- order and their API string form.
+
+CREATE OR REPLACE FUNCTION ulid_to_uuid(ulid text) RETURNS uuid AS $$
+DECLARE
+    alphabet CONSTANT text := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    bits bit varying := B'';
+    digit int;
+    hex text := '';
+BEGIN
+    IF length(ulid) <> 26 THEN
+        RAISE EXCEPTION 'Not a ULID: %', ulid;
+    END IF;
+    FOR i IN 1..26 LOOP
+        digit := position(substr(upper(ulid), i, 1) IN alphabet) - 1;
+        IF digit < 0 THEN
+            RAISE EXCEPTION 'Not a ULID: %', ulid;
+        END IF;
+        bits := bits || digit::bit(5);
+    END LOOP;
+    -- 26 digits carry 130 bits; the top two are always zero.
+    bits := substring(bits FROM 3);
+    FOR i IN 0..15 LOOP
+        hex := hex || lpad(to_hex(substring(bits FROM i * 8 + 1 FOR 8)::bit(8)::int), 2, '0');
+    END LOOP;
+    RETURN hex::uuid;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE STRICT;
+
+-- Foreign keys pin both column types, so they are dropped for the conversion and recreated after.
+-- They are looked up rather than named because ddl-auto=update generated their names.
+CREATE TEMP TABLE id_foreign_keys ON COMMIT DROP AS
+SELECT con.conrelid::regclass AS table_name, con.conname, pg_get_constraintdef(con.oid) AS definition
+FROM pg_constraint con
+WHERE con.contype = 'f'
+  AND con.conrelid::regclass::text IN ('loan_transaction', 'installment');
+
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN SELECT * FROM id_foreign_keys LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END;
+$$;
+
+ALTER TABLE users ALTER COLUMN id TYPE uuid USING ulid_to_uuid(id);
+ALTER TABLE loan ALTER COLUMN id TYPE uuid USING ulid_to_uuid(id);
+ALTER TABLE loan_transaction
+    ALTER COLUMN id TYPE uuid USING ulid_to_uuid(id),
+    ALTER COLUMN borrower_id TYPE uuid USING ulid_to_uuid(borrower_id),
+    ALTER COLUMN loan_id TYPE uuid USING ulid_to_uuid(loan_id),
+    ALTER COLUMN guarantor_id TYPE uuid USING ulid_to_uuid(guarantor_id);
+ALTER TABLE installment
+    ALTER COLUMN id TYPE uuid USING ulid_to_uuid(id),
+    ALTER COLUMN loan_transaction_id TYPE uuid USING ulid_to_uuid(loan_transaction_id);
+
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN SELECT * FROM id_foreign_keys LOOP
+        EXECUTE format('ALTER TABLE %s ADD CONSTRAINT %I %s', fk.table_name, fk.conname, fk.definition);
+    END LOOP;
+END;
+$$;
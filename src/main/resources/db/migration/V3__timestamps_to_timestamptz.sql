@@ -0,0 +1,33 @@
+-- Text timestamps move to timestamptz. created_at/updated_at and deleted_at were written with
+-- LocalDateTime.toString() in the application's zone, so they are read back in that zone
+-- (spring.flyway.placeholders.app_zone).
+
+SET LOCAL TimeZone = '${app_zone}';
+
+ALTER TABLE users
+    ALTER COLUMN created_at TYPE timestamptz USING created_at::timestamptz,
+    ALTER COLUMN updated_at TYPE timestamptz USING updated_at::timestamptz,
+    ALTER COLUMN deleted_at TYPE timestamptz USING deleted_at::timestamptz;
+ALTER TABLE loan
+    ALTER COLUMN created_at TYPE timestamptz USING created_at::timestamptz,
+    ALTER COLUMN updated_at TYPE timestamptz USING updated_at::timestamptz,
+    ALTER COLUMN deleted_at TYPE timestamptz USING deleted_at::timestamptz;
+ALTER TABLE loan_transaction
+    ALTER COLUMN created_at TYPE timestamptz USING created_at::timestamptz,
+    ALTER COLUMN updated_at TYPE timestamptz USING updated_at::timestamptz;
+ALTER TABLE installment
+    ALTER COLUMN created_at TYPE timestamptz USING created_at::timestamptz,
+    ALTER COLUMN updated_at TYPE timestamptz USING updated_at::timestamptz;
+
+-- NULLs never collide in a unique constraint, so (username, deleted_at) did not stop two active
+-- rows sharing a username. Partial indexes over the active rows enforce it and hold only them.
+ALTER TABLE users DROP CONSTRAINT uk_username_deleted;
+ALTER TABLE users DROP CONSTRAINT uk_email_deleted;
+ALTER TABLE loan DROP CONSTRAINT uk_loan_name_deleted;
+DROP INDEX idx_username_deleted;
+DROP INDEX idx_email_deleted;
+DROP INDEX idx_loan_name_deleted;
+
+CREATE UNIQUE INDEX uk_users_username_active ON users (username) WHERE deleted_at IS NULL;
+CREATE UNIQUE INDEX uk_users_email_active ON users (email) WHERE deleted_at IS NULL;
+CREATE UNIQUE INDEX uk_loan_name_active ON loan (name) WHERE deleted_at IS NULL;
@@ -0,0 +1,38 @@
+-- Tables and columns added after the baseline. They never existed with text keys or timestamps,
+-- so they are created with uuid ids and timestamptz times directly.
+
+CREATE TABLE score_ledger (
+    id           uuid         NOT NULL,
+    created_at   timestamptz  NOT NULL,
+    updated_at   timestamptz  NOT NULL,
+    user_id      uuid         NOT NULL,
+    type         varchar(255) NOT NULL
+        CHECK (type IN ('SIGNUP_BONUS', 'LOAN_AWARD', 'PENALTY', 'TRANSFER', 'GUARANTEE_PLEDGE', 'GUARANTEE_AWARD')),
+    delta        integer      NOT NULL,
+    reference_id uuid,
+    PRIMARY KEY (id),
+    -- Each award is recorded once per user and installment; the bonus consumer relies on it.
+    CONSTRAINT uk_score_ledger_user_type_reference UNIQUE (user_id, type, reference_id)
+);
+
+CREATE INDEX idx_score_ledger_user_created ON score_ledger (user_id, created_at);
+
+CREATE TABLE outbox_event (
+    id         uuid          NOT NULL,
+    created_at timestamptz   NOT NULL,
+    updated_at timestamptz   NOT NULL,
+    type       varchar(255)  NOT NULL CHECK (type IN ('INSTALLMENT_BONUS')),
+    payload    varchar(4000) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE job_checkpoint (
+    name       varchar(255) NOT NULL,
+    position   varchar(255) NOT NULL,
+    updated_at timestamptz  NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- Set once an overdue installment has been penalized. Adding a nullable column without a default
+-- only touches the catalog, so it does not rewrite the table.
+ALTER TABLE installment ADD COLUMN penalized_at timestamp(6);
@@ -0,0 +1,120 @@
+-- loan_transaction and installment become range-partitioned by month on start_date and due_date.
+-- Each table gets a partition per month that holds rows plus a default partition for months
+-- nobody has created yet; PartitionMaintenanceJob creates months ahead of time, moves anything
+-- that landed in the default into its own month, and detaches old months whose rows are closed.
+--
+-- The rows are copied into the new tables, so this migration holds both tables for the length
+-- of that copy.
+--
+-- Unique constraints on a partitioned table must include the partition key, so the primary keys
+-- become (id, start_date) and (id, due_date). ULIDs stay unique on their own; the key column is
+-- only there to satisfy PostgreSQL. For the same reason nothing can reference loan_transaction
+-- (id) any more, and installment keeps its loan_transaction_id without a foreign key.
+
+-- Creates the partition of parent for the month containing month, unless it exists. Rows of that
+-- month already sitting in the default partition move into it before it is attached, since a
+-- default partition must never hold rows another partition covers.
+CREATE OR REPLACE FUNCTION create_month_partition(parent text, key_column text, month timestamp)
+    RETURNS boolean AS $$
+DECLARE
+    lower_bound    timestamp := date_trunc('month', month);
+    upper_bound    timestamp := lower_bound + interval '1 month';
+    partition_name text      := parent || '_p' || to_char(lower_bound, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS)', partition_name, parent);
+    IF to_regclass(parent || '_default') IS NOT NULL THEN
+        EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= $1 AND %I < $2 RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                parent || '_default', key_column, key_column, partition_name)
+            USING lower_bound, upper_bound;
+    END IF;
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+            parent, partition_name, lower_bound, upper_bound);
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Foreign keys into the old tables go first; whatever Hibernate or V1 named them.
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT con.conrelid::regclass::text AS table_name, con.conname
+        FROM pg_constraint con
+        WHERE con.contype = 'f' AND con.conrelid::regclass::text IN ('loan_transaction', 'installment')
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END;
+$$;
+
+ALTER TABLE loan_transaction RENAME TO loan_transaction_unpartitioned;
+ALTER TABLE installment RENAME TO installment_unpartitioned;
+
+CREATE TABLE loan_transaction (
+    id           uuid         NOT NULL,
+    created_at   timestamptz  NOT NULL,
+    updated_at   timestamptz  NOT NULL,
+    borrower_id  uuid         NOT NULL,
+    loan_id      uuid         NOT NULL,
+    start_date   timestamp(6) NOT NULL,
+    end_date     timestamp(6),
+    paid_amount  bigint       NOT NULL,
+    guarantor_id uuid
+) PARTITION BY RANGE (start_date);
+
+CREATE TABLE installment (
+    id                  uuid         NOT NULL,
+    created_at          timestamptz  NOT NULL,
+    updated_at          timestamptz  NOT NULL,
+    loan_transaction_id uuid         NOT NULL,
+    due_date            timestamp(6) NOT NULL,
+    payment_date        timestamp(6),
+    paid                boolean      NOT NULL,
+    penalized_at        timestamp(6)
+) PARTITION BY RANGE (due_date);
+
+CREATE TABLE loan_transaction_default PARTITION OF loan_transaction DEFAULT;
+CREATE TABLE installment_default PARTITION OF installment DEFAULT;
+
+-- A month for every month already holding rows, and the current one with the three after it.
+SELECT create_month_partition('loan_transaction', 'start_date', month)
+FROM (SELECT DISTINCT date_trunc('month', start_date) AS month FROM loan_transaction_unpartitioned
+      UNION
+      SELECT date_trunc('month', localtimestamp) + make_interval(months => n) FROM generate_series(0, 3) n) months;
+
+SELECT create_month_partition('installment', 'due_date', month)
+FROM (SELECT DISTINCT date_trunc('month', due_date) AS month FROM installment_unpartitioned
+      UNION
+      SELECT date_trunc('month', localtimestamp) + make_interval(months => n) FROM generate_series(0, 3) n) months;
+
+INSERT INTO loan_transaction (id, created_at, updated_at, borrower_id, loan_id, start_date, end_date, paid_amount, guarantor_id)
+SELECT id, created_at, updated_at, borrower_id, loan_id, start_date, end_date, paid_amount, guarantor_id
+FROM loan_transaction_unpartitioned;
+
+INSERT INTO installment (id, created_at, updated_at, loan_transaction_id, due_date, payment_date, paid, penalized_at)
+SELECT id, created_at, updated_at, loan_transaction_id, due_date, payment_date, paid, penalized_at
+FROM installment_unpartitioned;
+
+DROP TABLE installment_unpartitioned;
+DROP TABLE loan_transaction_unpartitioned;
+
+-- Keys and indexes are declared on the parents and cascade to every partition, existing or new.
+ALTER TABLE loan_transaction ADD CONSTRAINT loan_transaction_pkey PRIMARY KEY (id, start_date);
+ALTER TABLE loan_transaction ADD CONSTRAINT fk_loan_transaction_borrower FOREIGN KEY (borrower_id) REFERENCES users (id);
+ALTER TABLE loan_transaction ADD CONSTRAINT fk_loan_transaction_loan FOREIGN KEY (loan_id) REFERENCES loan (id);
+ALTER TABLE loan_transaction ADD CONSTRAINT fk_loan_transaction_guarantor FOREIGN KEY (guarantor_id) REFERENCES users (id);
+-- id closes the index so a borrower's page reads in (start_date, id) order straight off it.
+CREATE INDEX idx_loan_transaction_borrower_start ON loan_transaction (borrower_id, start_date, id);
+CREATE INDEX idx_loan_transaction_guarantor ON loan_transaction (guarantor_id) WHERE guarantor_id IS NOT NULL;
+
+ALTER TABLE installment ADD CONSTRAINT installment_pkey PRIMARY KEY (id, due_date);
+CREATE INDEX idx_installment_loan_txn_paid_due ON installment (loan_transaction_id, paid, due_date);
+CREATE INDEX idx_installment_open_penalty ON installment (paid, penalized_at, id);
+CREATE INDEX idx_installment_open_due ON installment (due_date) WHERE paid = false;
+
+ANALYZE loan_transaction;
+ANALYZE installment;
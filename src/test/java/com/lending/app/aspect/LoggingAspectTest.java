@@ -0,0 +1,156 @@
+package com.lending.app.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.lending.app.application.service.LoanService;
+import com.lending.app.application.service.impl.LoanServiceImpl;
+import com.lending.app.config.NoOpAggregateCache;
+import com.lending.app.mapper.LoanMapperImpl;
+import com.lending.app.model.entity.Loan;
+import com.lending.app.repository.LoanRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoggingAspect Tests")
+class LoggingAspectTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    private final Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = aspectLogger.getLevel();
+        appender.start();
+        aspectLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspectLogger.detachAppender(appender);
+        aspectLogger.setLevel(previousLevel);
+    }
+
+    private LoanService proxied(LoggingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new LoanServiceImpl(loanRepository, new LoanMapperImpl(), new NoOpAggregateCache<>()));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private void stubLoan(long delayMs) {
+        Loan loan = new Loan();
+        loan.setName("loan");
+        when(loanRepository.findById("id")).thenAnswer(invocation -> {
+            Thread.sleep(delayMs);
+            return Optional.of(loan);
+        });
+    }
+
+    private void stubFailure(long delayMs) {
+        when(loanRepository.findById("id")).thenAnswer(invocation -> {
+            Thread.sleep(delayMs);
+            throw new IllegalStateException("database down");
+        });
+    }
+
+    @Test
+    @DisplayName("should trace entry and exit with the cached call-site name when debug is on")
+    void shouldTraceWhenDebugEnabled() {
+        aspectLogger.setLevel(Level.DEBUG);
+        stubLoan(0);
+
+        proxied(new LoggingAspect(1.0, 0)).get("id");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .hasSize(2)
+                .first().isEqualTo("Entering LoanServiceImpl.get()");
+    }
+
+    @Test
+    @DisplayName("should log nothing when debug is off and no slow threshold is set")
+    void shouldStayQuietWhenDebugDisabled() {
+        aspectLogger.setLevel(Level.INFO);
+        stubLoan(0);
+
+        proxied(new LoggingAspect(1.0, 0)).get("id");
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should skip unsampled calls even when debug is on")
+    void shouldSkipUnsampledCalls() {
+        aspectLogger.setLevel(Level.DEBUG);
+        stubLoan(0);
+
+        proxied(new LoggingAspect(0.0, 0)).get("id");
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should warn about calls over the slow threshold regardless of sampling")
+    void shouldWarnOnSlowCalls() {
+        aspectLogger.setLevel(Level.INFO);
+        stubLoan(30);
+
+        proxied(new LoggingAspect(0.0, 10)).get("id");
+
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                    assertThat(event.getFormattedMessage()).startsWith("Slow call LoanServiceImpl.get() took");
+                });
+    }
+
+    @Test
+    @DisplayName("should log a thrown exception at error even when the call is not sampled")
+    void shouldLogExceptionsRegardlessOfSampling() {
+        aspectLogger.setLevel(Level.INFO);
+        stubFailure(0);
+        LoanService service = proxied(new LoggingAspect(0.0, 0));
+
+        assertThatThrownBy(() -> service.get("id")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+                    assertThat(event.getFormattedMessage())
+                            .startsWith("Exception in LoanServiceImpl.get()")
+                            .endsWith("database down");
+                });
+    }
+
+    @Test
+    @DisplayName("should warn about slow calls that throw")
+    void shouldWarnOnSlowFailedCalls() {
+        aspectLogger.setLevel(Level.INFO);
+        stubFailure(30);
+        LoanService service = proxied(new LoggingAspect(0.0, 10));
+
+        assertThatThrownBy(() -> service.get("id")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel)
+                .containsExactly(Level.ERROR, Level.WARN);
+    }
+}
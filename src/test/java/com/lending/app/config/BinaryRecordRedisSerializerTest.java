@@ -0,0 +1,106 @@
+package com.lending.app.config;
+
+import com.lending.app.model.record.loan.LoanMessage;
+import com.lending.app.model.record.user.UserMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BinaryRecordRedisSerializer Tests")
+class BinaryRecordRedisSerializerTest {
+
+    /**
+     * Test-only codec for a value large enough to cross the compression threshold.
+     */
+    private static final RecordCodec<List<LoanMessage>> LOAN_LIST = new RecordCodec<>() {
+        @Override
+        public void write(DataOutputStream out, List<LoanMessage> loans) throws IOException {
+            out.writeInt(loans.size());
+            for (LoanMessage loan : loans) {
+                RecordCodecs.LOAN.write(out, loan);
+            }
+        }
+
+        @Override
+        public List<LoanMessage> read(DataInputStream in) throws IOException {
+            int size = in.readInt();
+            List<LoanMessage> loans = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                loans.add(RecordCodecs.LOAN.read(in));
+            }
+            return loans;
+        }
+    };
+
+    private static List<LoanMessage> loans(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new LoanMessage("01HLOAN" + i, "Loan " + i, 10_000L + i, 12, 100, 10))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("should round-trip a loan")
+        void shouldRoundTripLoan() {
+            BinaryRecordRedisSerializer<LoanMessage> serializer = new BinaryRecordRedisSerializer<>(RecordCodecs.LOAN, 1024);
+            LoanMessage loan = new LoanMessage("01HLOAN", "Loan", 12_000L, 12, 100, 10);
+
+            assertThat(serializer.deserialize(serializer.serialize(loan))).isEqualTo(loan);
+        }
+
+        @Test
+        @DisplayName("should round-trip a user with a missing email")
+        void shouldRoundTripUserWithNullField() {
+            BinaryRecordRedisSerializer<UserMessage> serializer = new BinaryRecordRedisSerializer<>(RecordCodecs.USER, 1024);
+            UserMessage user = new UserMessage("01HUSER", "alireza", null, 50);
+
+            assertThat(serializer.deserialize(serializer.serialize(user))).isEqualTo(user);
+        }
+
+        @Test
+        @DisplayName("should compress large values and round-trip them")
+        void shouldRoundTripCompressedValue() {
+            BinaryRecordRedisSerializer<List<LoanMessage>> serializer = new BinaryRecordRedisSerializer<>(LOAN_LIST, 1024);
+            List<LoanMessage> loans = loans(1000);
+
+            byte[] compressed = serializer.serialize(loans);
+            byte[] plain = new BinaryRecordRedisSerializer<>(LOAN_LIST, Integer.MAX_VALUE).serialize(loans);
+
+            assertThat(compressed.length).isLessThan(plain.length / 2);
+            assertThat(serializer.deserialize(compressed)).containsExactlyElementsOf(loans);
+        }
+    }
+
+    @Test
+    @DisplayName("should be much smaller than the JSON encoding")
+    void shouldBeSmallerThanJson() {
+        LoanMessage loan = new LoanMessage("01HLOAN", "Loan", 12_000L, 12, 100, 10);
+
+        byte[] binary = new BinaryRecordRedisSerializer<>(RecordCodecs.LOAN, 1024).serialize(loan);
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(loan);
+
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("should treat entries in another format as a miss")
+    void shouldIgnoreUnknownFormat() {
+        BinaryRecordRedisSerializer<LoanMessage> serializer = new BinaryRecordRedisSerializer<>(RecordCodecs.LOAN, 1024);
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(new LoanMessage("01HLOAN", "Loan", 1L, 1, 1, 1));
+
+        assertThat(serializer.deserialize(json)).isNull();
+    }
+}
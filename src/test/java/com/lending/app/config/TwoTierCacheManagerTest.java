@@ -0,0 +1,120 @@
+package com.lending.app.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierCacheManager Tests")
+class TwoTierCacheManagerTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+
+    private ConcurrentMapCacheManager remote;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCacheManager();
+        cacheManager = new TwoTierCacheManager(remote, redisTemplate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+    }
+
+    private void receive(String payload) {
+        cacheManager.onMessage(new DefaultMessage(TwoTierCacheManager.CHANNEL.getBytes(), payload.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Nested
+    @DisplayName("Reads")
+    class Reads {
+
+        @Test
+        @DisplayName("should serve repeated reads from the near cache")
+        void shouldServeFromNearCache() {
+            remote.getCache("loans").put("01L", "loan");
+            Cache cache = cacheManager.getCache("loans");
+
+            assertThat(cache.get("01L").get()).isEqualTo("loan");
+            remote.getCache("loans").evict("01L");
+
+            assertThat(cache.get("01L").get()).isEqualTo("loan");
+        }
+
+        @Test
+        @DisplayName("should return null when neither tier holds the key")
+        void shouldMissOnBothTiers() {
+            assertThat(cacheManager.getCache("loans").get("01L")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Writes")
+    class Writes {
+
+        @Test
+        @DisplayName("should write both tiers and announce the key")
+        void shouldPutAndPublish() {
+            cacheManager.getCache("users").put("01U", "user");
+
+            assertThat(remote.getCache("users").get("01U").get()).isEqualTo("user");
+            verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.CHANNEL), endsWith("|users|01U"));
+        }
+
+        @Test
+        @DisplayName("should evict both tiers")
+        void shouldEvictBothTiers() {
+            Cache cache = cacheManager.getCache("users");
+            cache.put("01U", "user");
+
+            cache.evict("01U");
+
+            assertThat(cache.get("01U")).isNull();
+            assertThat(remote.getCache("users").get("01U")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("should drop a near entry announced by another node")
+        void shouldEvictOnRemoteMessage() {
+            Cache cache = cacheManager.getCache("loans");
+            cache.put("01L", "stale");
+            remote.getCache("loans").put("01L", "fresh");
+
+            receive("other-node|loans|01L");
+
+            assertThat(cache.get("01L").get()).isEqualTo("fresh");
+        }
+
+        @Test
+        @DisplayName("should clear the near cache when another node clears")
+        void shouldClearOnRemoteMessage() {
+            Cache cache = cacheManager.getCache("loans_all");
+            cache.put("getAll", "stale");
+            remote.getCache("loans_all").clear();
+
+            receive("other-node|loans_all");
+
+            assertThat(cache.get("getAll")).isNull();
+        }
+    }
+}
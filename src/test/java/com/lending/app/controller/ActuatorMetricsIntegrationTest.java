@@ -0,0 +1,76 @@
+package com.lending.app.controller;
+
+import com.lending.app.Application;
+import com.lending.app.application.service.LoanService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = Application.class, properties = "spring.profiles.active=test")
+@AutoConfigureMockMvc
+@Import({NoOpCacheManager.class})
+@DisplayName("Actuator Metrics Integration Tests")
+class ActuatorMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Test
+    @DisplayName("should require authentication for metrics")
+    void shouldRejectAnonymous() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should hide metrics from non-admin users")
+    void shouldRejectNonAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("should time service methods with percentiles")
+    void shouldExposeServiceTimers() throws Exception {
+        loanService.getAll();
+
+        mockMvc.perform(get("/actuator/metrics/lending.service")
+                        .param("tag", "class:com.lending.app.application.service.impl.LoanServiceImpl")
+                        .param("tag", "method:getAll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value", hasItem(greaterThan(0.0))))
+                .andExpect(jsonPath("$.availableTags[*].tag", hasItem("exception")));
+
+        mockMvc.perform(get("/actuator/metrics/lending.service.percentile")
+                        .param("tag", "phi:0.99"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("should count JDBC statements")
+    void shouldExposeStatementCounts() throws Exception {
+        loanService.getAll();
+
+        mockMvc.perform(get("/actuator/metrics/hibernate.statements"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value", greaterThan(0.0)));
+    }
+}
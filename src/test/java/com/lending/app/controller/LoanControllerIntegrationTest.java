@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lending.app.Application;
 import com.lending.app.model.record.base.BaseResponse;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.loan.LoanMessage;
 import com.lending.app.model.record.loan.LoanMessageSet;
 import com.lending.app.model.record.loan.SaveLoanCommand;
@@ -25,6 +26,8 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(classes = Application.class, properties = "spring.profiles.active=test")
@@ -170,4 +173,68 @@ public class LoanControllerIntegrationTest {
             assertThat(loans).isNotNull();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Paged Loan Tests")
+    class PagedLoans {
+
+        private void saveLoan(String name) throws Exception {
+            mockMvc.perform(post(baseUrl)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new SaveLoanCommand(name, 1000, 10, 0, 0))))
+                    .andExpect(status().isOk());
+        }
+
+        private CursorPage<LoanMessage> page(String query) throws Exception {
+            MvcResult result = mockMvc.perform(get(baseUrl + "/page" + query))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            BaseResponse<CursorPage<LoanMessage>> response = objectMapper.readValue(
+                    result.getResponse().getContentAsString(),
+                    new TypeReference<>() {}
+            );
+            return response.result();
+        }
+
+        @Test
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testWalkPagesByCursor() throws Exception {
+            saveLoan("Paged Loan 1");
+            saveLoan("Paged Loan 2");
+
+            CursorPage<LoanMessage> first = page("?size=2");
+            assertThat(first.items()).hasSize(2);
+            assertThat(first.nextCursor()).isEqualTo(first.items().get(1).id());
+
+            CursorPage<LoanMessage> second = page("?size=2&after=" + first.nextCursor());
+            assertThat(second.items()).hasSize(1);
+            assertThat(second.nextCursor()).isNull();
+            assertThat(second.items().getFirst().id()).isGreaterThan(first.nextCursor());
+        }
+
+        @Test
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testRejectMalformedCursor() throws Exception {
+            mockMvc.perform(get(baseUrl + "/page?after=not-a-ulid"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testExportAsNdjson() throws Exception {
+            saveLoan("Exported Loan");
+
+            MvcResult started = mockMvc.perform(get(baseUrl + "/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            MvcResult result = mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andReturn();
+
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readValue(lines[0], LoanMessage.class).id()).isNotBlank();
+        }
+    }
+}
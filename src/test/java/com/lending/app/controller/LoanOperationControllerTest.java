@@ -33,6 +33,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mockStatic;
@@ -127,6 +128,17 @@ class LoanOperationControllerTest {
                 assertThat(message).isNotNull();
                 assertThat(message.message()).isNotBlank();
             }
+
+            List<LoanTransaction> created = loanTransactionRepository.findAll().stream()
+                    .filter(t -> !t.getId().equals(transaction.getId()))
+                    .filter(t -> t.getBorrower().getId().equals(borrower.getId()))
+                    .toList();
+            assertThat(created).hasSize(1);
+            long scheduled = installmentRepository.findAll().stream()
+                    .filter(i -> i.getLoanTransaction().getId().equals(created.getFirst().getId()))
+                    .filter(i -> !i.isPaid())
+                    .count();
+            assertThat(scheduled).isEqualTo(loan.getNumberOfInstallments());
         }
     }
 
@@ -158,4 +170,59 @@ class LoanOperationControllerTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Idempotency Tests")
+    class IdempotencyTests {
+
+        private BaseResponse<LoanApplicationMessage> payInstallment(String idempotencyKey) throws Exception {
+            MvcResult result = mockMvc.perform(post(baseUrl + "/installment")
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new LoanInstallmentCommand(transaction.getId()))))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            return objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {});
+        }
+
+        @Test
+        @WithMockUser(username = "test")
+        void shouldReplayRetriedInstallmentWithoutPayingTwice() throws Exception {
+            String idempotencyKey = "retry-" + transaction.getId();
+
+            try (MockedStatic<SecurityUtils> securityMock = mockStatic(SecurityUtils.class)) {
+                securityMock.when(SecurityUtils::getCurrentUserId).thenReturn(borrower.getId());
+
+                BaseResponse<LoanApplicationMessage> first = payInstallment(idempotencyKey);
+                BaseResponse<LoanApplicationMessage> retry = payInstallment(idempotencyKey);
+
+                assertThat(retry.result()).isEqualTo(first.result());
+            }
+
+            long paid = installmentRepository.findAll().stream()
+                    .filter(i -> i.getLoanTransaction().getId().equals(transaction.getId()))
+                    .filter(Installment::isPaid)
+                    .count();
+            assertThat(paid).isEqualTo(1);
+            assertThat(loanTransactionRepository.findById(transaction.getId()).orElseThrow().getPaidAmount())
+                    .isEqualTo(loan.getEachInstallmentAmount());
+        }
+
+        @Test
+        @WithMockUser(username = "test")
+        void shouldRejectKeyReusedForAnotherInstallment() throws Exception {
+            String idempotencyKey = "reused-" + transaction.getId();
+
+            try (MockedStatic<SecurityUtils> securityMock = mockStatic(SecurityUtils.class)) {
+                securityMock.when(SecurityUtils::getCurrentUserId).thenReturn(borrower.getId());
+
+                payInstallment(idempotencyKey);
+                mockMvc.perform(post(baseUrl + "/installment")
+                                .header("Idempotency-Key", idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new LoanInstallmentCommand("another-transaction"))))
+                        .andExpect(status().isUnprocessableEntity());
+            }
+        }
+    }
+}
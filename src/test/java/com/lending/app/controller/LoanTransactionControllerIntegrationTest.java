@@ -8,6 +8,7 @@ import com.lending.app.model.entity.LoanTransaction;
 import com.lending.app.model.entity.User;
 import com.lending.app.model.enums.Role;
 import com.lending.app.model.record.base.BaseResponse;
+import com.lending.app.model.record.base.CursorPage;
 import com.lending.app.model.record.loan.UserLoanTransactionMessage;
 import com.lending.app.repository.LoanRepository;
 import com.lending.app.repository.LoanTransactionRepository;
@@ -105,20 +106,74 @@ class LoanTransactionControllerIntegrationTest {
                         .andExpect(status().isOk())
                         .andReturn();
 
-                BaseResponse<List<UserLoanTransactionMessage>> response = objectMapper.readValue(
+                BaseResponse<CursorPage<UserLoanTransactionMessage>> response = objectMapper.readValue(
                         result.getResponse().getContentAsString(),
                         new TypeReference<>() {}
                 );
 
-                List<UserLoanTransactionMessage> transactions = response.result();
+                List<UserLoanTransactionMessage> transactions = response.result().items();
                 assertThat(transactions).isNotNull().hasSize(1);
+                assertThat(response.result().nextCursor()).isNull();
                 assertThat(transactions.getFirst().loanTransactionId()).isEqualTo(testLoanTransactionId);
-                assertThat(transactions.getFirst().loan().getName()).isEqualTo("Test Loan");
+                assertThat(transactions.getFirst().loan().name()).isEqualTo("Test Loan");
                 assertThat(transactions.getFirst().paidAmount()).isEqualTo(0);
                 assertThat(transactions.getFirst().startDate()).isNotNull();
             }
         }
 
+        @Test
+        @WithMockUser(username = "testuser")
+        void shouldWalkPagesNewestFirst() throws Exception {
+            User borrower = userRepository.findById(testUserId).orElseThrow();
+            Loan loan = loanTransactionRepository.findById(testLoanTransactionId).orElseThrow().getLoan();
+            for (int i = 1; i <= 2; i++) {
+                LoanTransaction older = new LoanTransaction();
+                older.setBorrower(borrower);
+                older.setLoan(loan);
+                older.setPaidAmount(0);
+                older.setStartDate(LocalDateTime.now().minusDays(i));
+                loanTransactionRepository.save(older);
+            }
+
+            try (MockedStatic<SecurityUtils> mocked = Mockito.mockStatic(SecurityUtils.class)) {
+                mocked.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
+
+                CursorPage<UserLoanTransactionMessage> first = getPage("/api/loan-transactions/my-loans?size=2");
+                assertThat(first.items()).hasSize(2);
+                assertThat(first.items().getFirst().loanTransactionId()).isEqualTo(testLoanTransactionId);
+                assertThat(first.items().get(0).startDate()).isAfter(first.items().get(1).startDate());
+                assertThat(first.nextCursor()).isNotNull();
+
+                CursorPage<UserLoanTransactionMessage> second = getPage(
+                        "/api/loan-transactions/my-loans?size=2&cursor=" + first.nextCursor());
+                assertThat(second.items()).hasSize(1);
+                assertThat(second.items().getFirst().startDate()).isBefore(first.items().get(1).startDate());
+                assertThat(second.nextCursor()).isNull();
+            }
+        }
+
+        @Test
+        @WithMockUser(username = "testuser")
+        void shouldRejectMalformedCursor() throws Exception {
+            try (MockedStatic<SecurityUtils> mocked = Mockito.mockStatic(SecurityUtils.class)) {
+                mocked.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
+
+                mockMvc.perform(get("/api/loan-transactions/my-loans").param("cursor", "not-a-cursor"))
+                        .andExpect(status().isBadRequest());
+            }
+        }
+
+        private CursorPage<UserLoanTransactionMessage> getPage(String url) throws Exception {
+            MvcResult result = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            BaseResponse<CursorPage<UserLoanTransactionMessage>> response = objectMapper.readValue(
+                    result.getResponse().getContentAsString(),
+                    new TypeReference<>() {}
+            );
+            return response.result();
+        }
+
         @Test
         void shouldReturnUnauthorizedForGetWithoutAuthentication() throws Exception {
             mockMvc.perform(get("/api/loan-transactions/my-loans"))
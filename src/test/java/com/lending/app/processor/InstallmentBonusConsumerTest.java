@@ -0,0 +1,117 @@
+package com.lending.app.processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lending.app.application.processor.InstallmentBonusConsumer;
+import com.lending.app.application.service.ScoreLedgerService;
+import com.lending.app.application.service.UserService;
+import com.lending.app.model.entity.ScoreLedgerEntry;
+import com.lending.app.model.enums.ScoreTransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstallmentBonusConsumer Tests")
+class InstallmentBonusConsumerTest {
+
+    @Mock
+    private UserService userService;
+    @Mock
+    private ScoreLedgerService scoreLedgerService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InstallmentBonusConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new InstallmentBonusConsumer(userService, scoreLedgerService, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should coalesce deltas per user and keep one ledger entry per event")
+    void shouldCoalesceDeltasPerUser() {
+        when(scoreLedgerService.recordAbsent(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        consumer.consume(List.of(
+                "[{\"userId\":\"01A\",\"delta\":9,\"referenceId\":\"i1\",\"type\":\"LOAN_AWARD\"},{\"userId\":\"01B\",\"delta\":1,\"referenceId\":\"i1\",\"type\":\"GUARANTEE_AWARD\"}]",
+                "[{\"userId\":\"01A\",\"delta\":4,\"referenceId\":\"i2\",\"type\":\"LOAN_AWARD\"}]"
+        ));
+
+        verify(userService).changeScores(Map.of("01A", 13, "01B", 1));
+        assertThat(recordedAwards()).extracting(ScoreLedgerEntry::getUserId, ScoreLedgerEntry::getType, ScoreLedgerEntry::getDelta, ScoreLedgerEntry::getReferenceId)
+                .containsExactly(
+                        tuple("01A", ScoreTransactionType.LOAN_AWARD, 9, "i1"),
+                        tuple("01B", ScoreTransactionType.GUARANTEE_AWARD, 1, "i1"),
+                        tuple("01A", ScoreTransactionType.LOAN_AWARD, 4, "i2"));
+        assertThat(meterRegistry.counter("bonus.consumer.coalesced").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should pay only the awards the ledger insert accepted")
+    void shouldSkipRedeliveredEvents() {
+        when(scoreLedgerService.recordAbsent(anyList())).thenAnswer(invocation -> {
+            List<ScoreLedgerEntry> awards = invocation.getArgument(0);
+            return awards.stream().filter(award -> award.getUserId().equals("01B")).limit(1).toList();
+        });
+
+        String payload = "[{\"userId\":\"01A\",\"delta\":9,\"referenceId\":\"i1\",\"type\":\"LOAN_AWARD\"},{\"userId\":\"01B\",\"delta\":1,\"referenceId\":\"i1\",\"type\":\"GUARANTEE_AWARD\"}]";
+        consumer.consume(List.of(payload, payload));
+
+        verify(userService).changeScores(Map.of("01B", 1));
+        assertThat(meterRegistry.counter("bonus.consumer.events", "outcome", "duplicate").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("bonus.consumer.events", "outcome", "applied").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should pay both shares of a self-guaranteed loan")
+    void shouldKeepBothSharesOfSelfGuarantee() {
+        when(scoreLedgerService.recordAbsent(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        consumer.consume(List.of(
+                "[{\"userId\":\"01A\",\"delta\":8,\"referenceId\":\"i1\",\"type\":\"LOAN_AWARD\"},{\"userId\":\"01A\",\"delta\":2,\"referenceId\":\"i1\",\"type\":\"GUARANTEE_AWARD\"}]"
+        ));
+
+        verify(userService).changeScores(Map.of("01A", 10));
+        assertThat(recordedAwards()).extracting(ScoreLedgerEntry::getType)
+                .containsExactly(ScoreTransactionType.LOAN_AWARD, ScoreTransactionType.GUARANTEE_AWARD);
+    }
+
+    @Test
+    @DisplayName("should return a malformed payload and apply the rest of the batch")
+    void shouldRejectMalformedPayload() {
+        when(scoreLedgerService.recordAbsent(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        String incomplete = "[{\"userId\":\"01B\",\"delta\":1,\"referenceId\":\"i2\"}]";
+        List<String> rejected = consumer.consume(List.of(
+                "not json",
+                "[{\"userId\":\"01A\",\"delta\":9,\"referenceId\":\"i1\",\"type\":\"LOAN_AWARD\"}]",
+                incomplete
+        ));
+
+        assertThat(rejected).containsExactly("not json", incomplete);
+        verify(userService).changeScores(Map.of("01A", 9));
+        assertThat(recordedAwards()).extracting(ScoreLedgerEntry::getReferenceId).containsExactly("i1");
+        assertThat(meterRegistry.counter("bonus.consumer.events", "outcome", "malformed").count()).isEqualTo(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ScoreLedgerEntry> recordedAwards() {
+        ArgumentCaptor<List<ScoreLedgerEntry>> awards = ArgumentCaptor.forClass(List.class);
+        verify(scoreLedgerService).recordAbsent(awards.capture());
+        return awards.getValue();
+    }
+}
@@ -0,0 +1,236 @@
+package com.lending.app.processor;
+
+import com.lending.app.Application;
+import com.lending.app.application.processor.InstallmentPaymentProcessor;
+import com.lending.app.application.processor.OutboxRelay;
+import com.lending.app.exception.NotFoundException;
+import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.Loan;
+import com.lending.app.model.entity.LoanTransaction;
+import com.lending.app.model.entity.User;
+import com.lending.app.model.enums.Role;
+import com.lending.app.model.enums.ScoreTransactionType;
+import com.lending.app.model.record.loan.LoanInstallmentCommand;
+import com.lending.app.repository.InstallmentRepository;
+import com.lending.app.repository.LoanRepository;
+import com.lending.app.repository.LoanTransactionRepository;
+import com.lending.app.repository.ScoreLedgerRepository;
+import com.lending.app.repository.UserRepository;
+import com.lending.app.util.SecurityUtils;
+import com.lending.app.util.UlidUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = Application.class, properties = "spring.profiles.active=test")
+@Import({NoOpCacheManager.class})
+@DisplayName("InstallmentPaymentProcessor Integration Tests")
+class InstallmentPaymentProcessorIntegrationTest {
+
+    @Autowired
+    private InstallmentPaymentProcessor processor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private LoanTransactionRepository loanTransactionRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ScoreLedgerRepository scoreLedgerRepository;
+
+    private String borrowerId;
+    private String transactionId;
+    private String installmentId;
+
+    @BeforeEach
+    void setup() {
+        User borrower = new User();
+        borrower.setUsername("payer" + System.nanoTime());
+        borrower.setPassword("encoded_password");
+        borrower.setEmail(borrower.getUsername() + "@example.com");
+        borrower.setScore(100);
+        borrower.setRole(Role.USER);
+        borrower = userRepository.save(borrower);
+        borrowerId = borrower.getId();
+
+        Loan loan = new Loan();
+        loan.setName("Payment Loan " + System.nanoTime());
+        loan.setAmount(10000);
+        loan.setNumberOfInstallments(10);
+        loan.setEachInstallmentAmount(1000);
+        loan.setRequiredScore(50);
+        loan.setAwardScore(10);
+        loan = loanRepository.save(loan);
+
+        LoanTransaction transaction = new LoanTransaction();
+        transaction.setBorrower(borrower);
+        transaction.setLoan(loan);
+        transaction.setPaidAmount(0);
+        transaction.setStartDate(LocalDateTime.now());
+        transaction = loanTransactionRepository.save(transaction);
+        transactionId = transaction.getId();
+
+        Installment installment = new Installment();
+        installment.setLoanTransaction(transaction);
+        installment.setDueDate(LocalDateTime.now().plusMonths(1));
+        installmentId = installmentRepository.save(installment).getId();
+    }
+
+    private void payAs(String userId) {
+        try (MockedStatic<SecurityUtils> mocked = Mockito.mockStatic(SecurityUtils.class)) {
+            mocked.when(SecurityUtils::getCurrentUserId).thenReturn(userId);
+            processor.process(new LoanInstallmentCommand(transactionId));
+        }
+    }
+
+    @Test
+    @DisplayName("should mark the installment paid and advance the transaction in one commit")
+    void shouldPayOpenInstallment() {
+        payAs(borrowerId);
+
+        Installment paid = installmentRepository.findById(installmentId).orElseThrow();
+        assertThat(paid.isPaid()).isTrue();
+        assertThat(paid.getPaymentDate()).isNotNull();
+        assertThat(loanTransactionRepository.findById(transactionId).orElseThrow().getPaidAmount()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("should award the bonus through the outbox once the relay runs")
+    void shouldAwardBonusThroughOutbox() {
+        payAs(borrowerId);
+        assertThat(userRepository.findById(borrowerId).orElseThrow().getScore()).isEqualTo(100);
+
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        assertThat(userRepository.findById(borrowerId).orElseThrow().getScore()).isGreaterThan(100);
+        assertThat(scoreLedgerRepository.findAll())
+                .filteredOn(entry -> entry.getType() == ScoreTransactionType.LOAN_AWARD && installmentId.equals(entry.getReferenceId()))
+                .hasSize(1)
+                .allSatisfy(entry -> assertThat(entry.getUserId()).isEqualTo(borrowerId));
+    }
+
+    @Test
+    @DisplayName("should pay the earliest unpaid installment of the schedule")
+    void shouldPayEarliestInstallment() {
+        Installment later = new Installment();
+        later.setLoanTransaction(loanTransactionRepository.findById(transactionId).orElseThrow());
+        later.setDueDate(LocalDateTime.now().plusMonths(2));
+        String laterId = installmentRepository.save(later).getId();
+
+        payAs(borrowerId);
+
+        assertThat(installmentRepository.findById(installmentId).orElseThrow().isPaid()).isTrue();
+        assertThat(installmentRepository.findById(laterId).orElseThrow().isPaid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not pay another borrower's installment")
+    void shouldRejectForeignBorrower() {
+        assertThatThrownBy(() -> payAs("someone-else"))
+                .isInstanceOf(NotFoundException.class);
+
+        assertThat(installmentRepository.findById(installmentId).orElseThrow().isPaid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject a duplicate payment while the first one holds the installment")
+    void shouldRejectConcurrentDuplicate() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> firstPayment = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    installmentRepository.findPayableForUpdate(transactionId, borrowerId, Limit.of(1)).orElseThrow();
+                    locked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+            // PostgreSQL skips the locked row and finds nothing; H2 has no SKIP LOCKED and
+            // gives up on its lock timeout instead. Either way the duplicate is turned away.
+            assertThatThrownBy(() -> payAs(borrowerId))
+                    .isInstanceOfAny(NotFoundException.class, PessimisticLockingFailureException.class);
+        } finally {
+            release.countDown();
+            firstPayment.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(installmentRepository.findById(installmentId).orElseThrow().isPaid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not pay past an installment the overdue scan holds")
+    void shouldNotPayPastInstallmentHeldByOverdueScan() throws Exception {
+        LoanTransaction transaction = loanTransactionRepository.findById(transactionId).orElseThrow();
+        transaction.setStartDate(LocalDateTime.now().minusMonths(3));
+        loanTransactionRepository.save(transaction);
+        Installment overdue = installmentRepository.findById(installmentId).orElseThrow();
+        overdue.setDueDate(LocalDateTime.now().minusMonths(1));
+        installmentRepository.save(overdue);
+        Installment next = new Installment();
+        next.setLoanTransaction(transaction);
+        next.setDueDate(LocalDateTime.now().plusMonths(1));
+        String nextId = installmentRepository.save(next).getId();
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> scan = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    assertThat(installmentRepository.findOverdueForUpdate(UlidUtils.MIN, installmentId, LocalDateTime.now()))
+                            .extracting(Installment::getId)
+                            .contains(installmentId);
+                    locked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> payAs(borrowerId))
+                    .isInstanceOfAny(NotFoundException.class, PessimisticLockingFailureException.class);
+        } finally {
+            release.countDown();
+            scan.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(installmentRepository.findById(nextId).orElseThrow().isPaid()).isFalse();
+    }
+}
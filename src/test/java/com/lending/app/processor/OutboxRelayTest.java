@@ -0,0 +1,79 @@
+package com.lending.app.processor;
+
+import com.lending.app.application.processor.OutboxRelay;
+import com.lending.app.config.OutboxPublisher;
+import com.lending.app.model.entity.OutboxEvent;
+import com.lending.app.model.enums.OutboxEventType;
+import com.lending.app.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private OutboxPublisher outboxPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, outboxPublisher,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), 2);
+    }
+
+    private static OutboxEvent event() {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(OutboxEventType.INSTALLMENT_BONUS);
+        event.setPayload("[]");
+        return event;
+    }
+
+    @Test
+    @DisplayName("should publish and delete batches until one comes back short")
+    void shouldDrainInBatches() {
+        List<OutboxEvent> full = List.of(event(), event());
+        List<OutboxEvent> rest = List.of(event());
+        when(outboxEventRepository.findBatchForUpdate(Limit.of(2))).thenReturn(full, rest);
+
+        assertThat(relay.relay()).isEqualTo(3);
+
+        verify(outboxPublisher).publish(full);
+        verify(outboxPublisher).publish(rest);
+        verify(outboxEventRepository).deleteAllInBatch(full);
+        verify(outboxEventRepository).deleteAllInBatch(rest);
+    }
+
+    @Test
+    @DisplayName("should keep the batch when the publisher fails")
+    void shouldKeepBatchOnPublishFailure() {
+        List<OutboxEvent> batch = List.of(event());
+        when(outboxEventRepository.findBatchForUpdate(Limit.of(2))).thenReturn(batch);
+        doThrow(new AmqpException("nack")).when(outboxPublisher).publish(batch);
+
+        assertThatThrownBy(() -> relay.relay()).isInstanceOf(AmqpException.class);
+
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+}
@@ -0,0 +1,141 @@
+package com.lending.app.processor;
+
+import com.lending.app.Application;
+import com.lending.app.application.processor.OverdueInstallmentScanner;
+import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.Loan;
+import com.lending.app.model.entity.LoanTransaction;
+import com.lending.app.model.entity.ScoreLedgerEntry;
+import com.lending.app.model.entity.User;
+import com.lending.app.model.enums.Role;
+import com.lending.app.model.enums.ScoreTransactionType;
+import com.lending.app.repository.InstallmentRepository;
+import com.lending.app.repository.JobCheckpointRepository;
+import com.lending.app.repository.LoanRepository;
+import com.lending.app.repository.LoanTransactionRepository;
+import com.lending.app.repository.ScoreLedgerRepository;
+import com.lending.app.repository.UserRepository;
+import com.lending.app.util.UlidUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = "spring.profiles.active=test")
+@Import({NoOpCacheManager.class})
+@DisplayName("OverdueInstallmentScanner Integration Tests")
+class OverdueInstallmentScannerIntegrationTest {
+
+    @Autowired
+    private OverdueInstallmentScanner scanner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private LoanTransactionRepository loanTransactionRepository;
+
+    @Autowired
+    private InstallmentRepository installmentRepository;
+
+    @Autowired
+    private ScoreLedgerRepository scoreLedgerRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    private String borrowerId;
+    private LoanTransaction transaction;
+
+    @BeforeEach
+    void setup() {
+        User borrower = new User();
+        borrower.setUsername("late" + System.nanoTime());
+        borrower.setPassword("encoded_password");
+        borrower.setEmail(borrower.getUsername() + "@example.com");
+        borrower.setScore(100);
+        borrower.setRole(Role.USER);
+        borrowerId = userRepository.save(borrower).getId();
+
+        Loan loan = new Loan();
+        loan.setName("Overdue Loan " + System.nanoTime());
+        loan.setAmount(12000);
+        loan.setNumberOfInstallments(12);
+        loan.setEachInstallmentAmount(1000);
+        loan.setRequiredScore(50);
+        loan.setAwardScore(120);
+        loan = loanRepository.save(loan);
+
+        transaction = new LoanTransaction();
+        transaction.setBorrower(borrower);
+        transaction.setLoan(loan);
+        transaction.setPaidAmount(0);
+        transaction.setStartDate(LocalDateTime.now().minusMonths(3));
+        transaction = loanTransactionRepository.save(transaction);
+    }
+
+    private String installment(LocalDateTime dueDate, boolean paid) {
+        Installment installment = new Installment();
+        installment.setLoanTransaction(transaction);
+        installment.setDueDate(dueDate);
+        installment.setPaid(paid);
+        return installmentRepository.save(installment).getId();
+    }
+
+    private List<ScoreLedgerEntry> penaltiesOf(String userId) {
+        return scoreLedgerRepository.findAll().stream()
+                .filter(entry -> entry.getUserId().equals(userId))
+                .filter(entry -> entry.getType() == ScoreTransactionType.PENALTY)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("should penalize each unpaid installment past the grace period exactly once")
+    void shouldPenalizeOverdueInstallmentsOnce() {
+        List<String> overdue = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            overdue.add(installment(LocalDateTime.now().minusMonths(2).plusDays(i), false));
+        }
+        String paid = installment(LocalDateTime.now().minusMonths(2), true);
+        String withinGrace = installment(LocalDateTime.now().minusDays(1), false);
+        String upcoming = installment(LocalDateTime.now().plusMonths(1), false);
+
+        assertThat(scanner.scan()).isGreaterThanOrEqualTo(overdue.size());
+
+        overdue.forEach(id -> assertThat(installmentRepository.findById(id).orElseThrow().getPenalizedAt()).isNotNull());
+        List.of(paid, withinGrace, upcoming).forEach(id ->
+                assertThat(installmentRepository.findById(id).orElseThrow().getPenalizedAt()).isNull());
+        assertThat(userRepository.findById(borrowerId).orElseThrow().getScore()).isEqualTo(100 - 5 * 10);
+        assertThat(penaltiesOf(borrowerId))
+                .hasSize(5)
+                .allSatisfy(entry -> assertThat(entry.getDelta()).isEqualTo(-10))
+                .extracting(ScoreLedgerEntry::getReferenceId)
+                .containsExactlyInAnyOrderElementsOf(overdue);
+
+        assertThat(scanner.scan()).isZero();
+        assertThat(userRepository.findById(borrowerId).orElseThrow().getScore()).isEqualTo(50);
+        assertThat(penaltiesOf(borrowerId)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("should reset the checkpoint once a pass completes")
+    void shouldResetCheckpointAfterPass() {
+        installment(LocalDateTime.now().minusMonths(1), false);
+
+        scanner.scan();
+
+        assertThat(jobCheckpointRepository.findById("overdue-installments").orElseThrow().getPosition()).isEqualTo(UlidUtils.MIN);
+    }
+}
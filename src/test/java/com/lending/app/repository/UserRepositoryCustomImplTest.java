@@ -0,0 +1,45 @@
+package com.lending.app.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserRepositoryCustomImpl Tests")
+class UserRepositoryCustomImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should batch score changes in user id order regardless of insertion order")
+    @SuppressWarnings("unchecked")
+    void shouldBatchScoreChangesInIdOrder() {
+        Map<String, Integer> deltas = new LinkedHashMap<>();
+        deltas.put("01J8Z3K4QW0000000000000003", -2);
+        deltas.put("01J8Z3K4QW0000000000000001", 5);
+        deltas.put("01J8Z3K4QW0000000000000002", 1);
+
+        new UserRepositoryCustomImpl(jdbcTemplate, 100).addScores(deltas);
+
+        ArgumentCaptor<List<Map.Entry<String, Integer>>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batch.getValue()).extracting(Map.Entry::getKey).containsExactly(
+                "01J8Z3K4QW0000000000000001", "01J8Z3K4QW0000000000000002", "01J8Z3K4QW0000000000000003");
+    }
+}
@@ -0,0 +1,121 @@
+package com.lending.app.security;
+
+import com.lending.app.model.entity.User;
+import com.lending.app.model.enums.Role;
+import com.lending.app.model.util.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Tests")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "01234567890123456789012345678901";
+
+    @Mock private UserDetailsService userDetailsService;
+    @Mock private ActiveUserCache activeUserCache;
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 3600000, 1000, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication filter(boolean stateless, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        new JwtAuthenticationFilter(jwtService, userDetailsService, activeUserCache, stateless)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private User storedUser() {
+        User user = new User();
+        user.setUsername("alireza");
+        user.setPassword("encoded");
+        user.setRole(Role.USER);
+        return user;
+    }
+
+    @Nested
+    @DisplayName("Stateless")
+    class Stateless {
+
+        @Test
+        @DisplayName("should authenticate from token claims without loading the user")
+        void shouldAuthenticateFromClaims() throws Exception {
+            String token = jwtService.generateToken("alireza", Map.of("uid", "01HUID", "role", "ADMIN"));
+            when(activeUserCache.isActive("01HUID")).thenReturn(true);
+
+            Authentication authentication = filter(true, token);
+
+            assertThat(authentication).isNotNull();
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            assertThat(principal.getId()).isEqualTo("01HUID");
+            assertThat(principal.getUsername()).isEqualTo("alireza");
+            assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("should not authenticate a deleted user")
+        void shouldRejectInactiveUser() throws Exception {
+            String token = jwtService.generateToken("alireza", Map.of("uid", "01HUID", "role", "USER"));
+            when(activeUserCache.isActive("01HUID")).thenReturn(false);
+
+            assertThat(filter(true, token)).isNull();
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("should load the user for tokens without a role claim")
+        void shouldFallBackForLegacyTokens() throws Exception {
+            String token = jwtService.generateToken("alireza", Map.of("uid", "01HUID"));
+            when(userDetailsService.loadUserByUsername("alireza")).thenReturn(storedUser());
+
+            Authentication authentication = filter(true, token);
+
+            assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+            verify(activeUserCache, never()).isActive(any());
+        }
+    }
+
+    @Test
+    @DisplayName("should load the user on every request when stateless mode is off")
+    void shouldLoadUserWhenStatelessDisabled() throws Exception {
+        String token = jwtService.generateToken("alireza", Map.of("uid", "01HUID", "role", "USER"));
+        when(userDetailsService.loadUserByUsername("alireza")).thenReturn(storedUser());
+
+        Authentication authentication = filter(false, token);
+
+        assertThat(((UserPrincipal) authentication.getPrincipal()).getId()).isEqualTo("01HUID");
+        verify(userDetailsService).loadUserByUsername("alireza");
+        verifyNoInteractions(activeUserCache);
+    }
+}
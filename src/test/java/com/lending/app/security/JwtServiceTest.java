@@ -1,5 +1,9 @@
 package com.lending.app.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("JwtService Tests")
 class JwtServiceTest {
@@ -15,10 +20,12 @@ class JwtServiceTest {
     private static final long EXPIRATION_MS = 3600000;
 
     private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService(SECRET, EXPIRATION_MS);
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET, EXPIRATION_MS, 1000, meterRegistry);
     }
 
     @Test
@@ -47,4 +54,50 @@ class JwtServiceTest {
         String department = jwtService.extractClaim(token, c -> c.get("test", String.class));
         assertThat(department).isEqualTo("test");
     }
+
+    @Test
+    @DisplayName("should parse subject and custom claims in a single pass")
+    void shouldParseAllClaims() {
+        String token = jwtService.generateToken("user1", Map.of("uid", "01HUID", "role", "USER"));
+
+        Claims claims = jwtService.parseClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo("user1");
+        assertThat(claims.get("uid", String.class)).isEqualTo("01HUID");
+        assertThat(claims.get("role", String.class)).isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("should serve repeated verifications of the same token from the cache")
+    void shouldCacheVerifiedClaims() {
+        String token = jwtService.generateToken("user1", Map.of("uid", "01HUID"));
+
+        Claims first = jwtService.parseClaims(token);
+        Claims second = jwtService.parseClaims(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.claims").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should still reject a tampered token after the original was cached")
+    void shouldRejectTamperedToken() {
+        String token = jwtService.generateToken("user1", Map.of("uid", "01HUID"));
+        jwtService.parseClaims(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.parseClaims(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("should reject expired tokens")
+    void shouldRejectExpiredToken() {
+        JwtService expiring = new JwtService(SECRET, -1000, 1000, meterRegistry);
+        String token = expiring.generateToken("user1", Map.of("uid", "01HUID"));
+
+        assertThatThrownBy(() -> expiring.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> expiring.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+    }
 }
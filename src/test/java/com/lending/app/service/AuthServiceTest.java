@@ -1,9 +1,12 @@
 package com.lending.app.service;
 
+import com.lending.app.application.service.ScoreLedgerService;
 import com.lending.app.application.service.UserService;
 import com.lending.app.exception.AlreadyExistsException;
 import com.lending.app.exception.UnauthorizedException;
 import com.lending.app.model.entity.User;
+import com.lending.app.model.enums.Role;
+import com.lending.app.model.enums.ScoreTransactionType;
 import com.lending.app.model.record.auth.AuthMessage;
 import com.lending.app.model.record.auth.SignInCommand;
 import com.lending.app.model.record.auth.SignUpCommand;
@@ -39,6 +42,7 @@ class AuthServiceTest {
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private JwtService jwtService;
     @Mock private AuthenticationManager authenticationManager;
+    @Mock private ScoreLedgerService scoreLedgerService;
 
     @InjectMocks private AuthServiceImpl authService;
 
@@ -56,6 +60,7 @@ class AuthServiceTest {
         savedUser.setPassword("encoded");
         savedUser.setEmail("alireza@example.com");
         savedUser.setScore(0);
+        savedUser.setRole(Role.USER);
     }
 
     private void withAuthenticatedUser(User user, Runnable action) {
@@ -98,6 +103,7 @@ class AuthServiceTest {
                             cmd.password().equals("encoded") &&
                             cmd.score() == 0
             ));
+            verify(scoreLedgerService).record(savedUser.getId(), ScoreTransactionType.SIGNUP_BONUS, 0, null);
         }
 
         @Test
@@ -137,6 +143,7 @@ class AuthServiceTest {
                 AuthMessage res = authService.signIn(signInCommand);
 
                 assertThat(res.token()).isEqualTo("jwt-token");
+                verify(jwtService).generateToken(eq("alireza"), argThat((Map<String, Object> claims) -> "USER".equals(claims.get("role"))));
             });
         }
 
@@ -0,0 +1,160 @@
+package com.lending.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lending.app.application.service.impl.IdempotencyServiceImpl;
+import com.lending.app.config.LocalIdempotencyStore;
+import com.lending.app.exception.AlreadyExistsException;
+import com.lending.app.exception.InsufficientScoreException;
+import com.lending.app.exception.InvalidException;
+import com.lending.app.exception.MismatchException;
+import com.lending.app.model.record.loan.LoanApplicationMessage;
+import com.lending.app.model.record.loan.LoanInstallmentCommand;
+import com.lending.app.util.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IdempotencyService Tests")
+class IdempotencyServiceTest {
+
+    private static final LoanInstallmentCommand REQUEST = new LoanInstallmentCommand("tx-1");
+
+    private final AtomicInteger runs = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyServiceImpl service;
+    private MockedStatic<SecurityUtils> security;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new IdempotencyServiceImpl(
+                new LocalIdempotencyStore(100, Duration.ofSeconds(30), Duration.ofHours(1)), new ObjectMapper(), meterRegistry);
+        security = Mockito.mockStatic(SecurityUtils.class);
+        actAs("user1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        security.close();
+    }
+
+    private void actAs(String userId) {
+        security.when(SecurityUtils::getCurrentUserId).thenReturn(userId);
+    }
+
+    private Supplier<LoanApplicationMessage> action() {
+        return () -> new LoanApplicationMessage("run " + runs.incrementAndGet());
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.counter("idempotency.requests", "outcome", outcome).count();
+    }
+
+    @Nested
+    @DisplayName("Execute")
+    class ExecuteTests {
+
+        @Test
+        @DisplayName("should run every request when no key is given")
+        void shouldRunWithoutKey() {
+            service.execute("loan", null, REQUEST, action());
+            service.execute("loan", " ", REQUEST, action());
+
+            assertThat(runs).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should replay the recorded response for a retried key")
+        void shouldReplayCompletedKey() {
+            LoanApplicationMessage first = service.execute("loan", "key-1", REQUEST, action());
+            LoanApplicationMessage retry = service.execute("loan", "key-1", REQUEST, action());
+
+            assertThat(retry).isEqualTo(first);
+            assertThat(runs).hasValue(1);
+            assertThat(outcome("executed")).isEqualTo(1);
+            assertThat(outcome("replayed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject a retry while the first attempt is still running")
+        void shouldRejectInProgressKey() {
+            service.execute("loan", "key-1", REQUEST, () -> {
+                assertThatThrownBy(() -> service.execute("loan", "key-1", REQUEST, action()))
+                        .isInstanceOf(AlreadyExistsException.class);
+                return new LoanApplicationMessage("done");
+            });
+
+            assertThat(runs).hasValue(0);
+            assertThat(outcome("conflict")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should release the key when the operation fails")
+        void shouldReleaseOnFailure() {
+            assertThatThrownBy(() -> service.execute("loan", "key-1", REQUEST, () -> {
+                throw new InsufficientScoreException();
+            })).isInstanceOf(InsufficientScoreException.class);
+
+            service.execute("loan", "key-1", REQUEST, action());
+
+            assertThat(runs).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should scope keys by operation and caller")
+        void shouldScopeKeys() {
+            service.execute("loan", "key-1", REQUEST, action());
+            service.execute("installment", "key-1", REQUEST, action());
+            actAs("user2");
+            service.execute("loan", "key-1", REQUEST, action());
+
+            assertThat(runs).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("should reject a key reused with a different request")
+        void shouldRejectMismatchedRequest() {
+            LoanApplicationMessage first = service.execute("installment", "key-1", REQUEST, action());
+
+            assertThatThrownBy(() -> service.execute("installment", "key-1", new LoanInstallmentCommand("tx-2"), action()))
+                    .isInstanceOf(MismatchException.class);
+
+            assertThat(service.execute("installment", "key-1", new LoanInstallmentCommand("tx-1"), action())).isEqualTo(first);
+            assertThat(runs).hasValue(1);
+            assertThat(outcome("mismatch")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject a key reused with a different request while the first is running")
+        void shouldRejectMismatchedRequestInProgress() {
+            service.execute("installment", "key-1", REQUEST, () -> {
+                assertThatThrownBy(() -> service.execute("installment", "key-1", new LoanInstallmentCommand("tx-2"), action()))
+                        .isInstanceOf(MismatchException.class);
+                return new LoanApplicationMessage("done");
+            });
+
+            assertThat(runs).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should reject an oversized key")
+        void shouldRejectOversizedKey() {
+            assertThatThrownBy(() -> service.execute("loan", "k".repeat(256), REQUEST, action()))
+                    .isInstanceOf(InvalidException.class);
+
+            assertThat(runs).hasValue(0);
+        }
+    }
+}
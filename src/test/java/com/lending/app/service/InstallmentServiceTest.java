@@ -3,6 +3,7 @@ package com.lending.app.service;
 import com.lending.app.application.service.impl.InstallmentServiceImpl;
 import com.lending.app.exception.NotFoundException;
 import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.Loan;
 import com.lending.app.model.entity.LoanTransaction;
 import com.lending.app.repository.InstallmentRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,8 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,65 +47,56 @@ class InstallmentServiceTest {
         installment.setDueDate(LocalDateTime.now().plusDays(10));
     }
 
-    private void withSavedInstallment(Runnable action) {
-        when(installmentRepository.save(any(Installment.class))).thenReturn(installment);
-        when(installmentRepository.saveAndFlush(any(Installment.class))).thenReturn(installment);
-        action.run();
-        reset(installmentRepository);
-    }
-
     private void withFoundInstallment(Runnable action) {
-        when(installmentRepository.findLastByLoanTransactionId("loan1"))
+        when(installmentRepository.findPayableForUpdate("loan1", "user1", Limit.of(1)))
                 .thenReturn(Optional.of(installment));
         action.run();
         reset(installmentRepository);
     }
 
     private void withMissingInstallment(Runnable action) {
-        when(installmentRepository.findLastByLoanTransactionId("loan1"))
+        when(installmentRepository.findPayableForUpdate("loan1", "user1", Limit.of(1)))
                 .thenReturn(Optional.empty());
         action.run();
         reset(installmentRepository);
     }
 
     @Nested
-    @DisplayName("Save")
-    class SaveTests {
-        @Test
-        @DisplayName("should save installment successfully")
-        void shouldSaveInstallment() {
-            withSavedInstallment(() -> {
-                Installment saved = installmentService.save(installment);
-
-                assertThat(saved).isEqualTo(installment);
-                verify(installmentRepository).save(installment);
-            });
-        }
-    }
-
-    @Nested
-    @DisplayName("SaveAndFlush")
-    class SaveAndFlushTests {
+    @DisplayName("Create Schedule")
+    class CreateScheduleTests {
         @Test
-        @DisplayName("should save and flush installment successfully")
-        void shouldSaveAndFlushInstallment() {
-            withSavedInstallment(() -> {
-                Installment saved = installmentService.saveAndFlush(installment);
-
-                assertThat(saved).isEqualTo(installment);
-                verify(installmentRepository).saveAndFlush(installment);
+        @DisplayName("should insert one unpaid installment per month in a single batch")
+        void shouldCreateMonthlySchedule() {
+            Loan loan = new Loan();
+            loan.setNumberOfInstallments(3);
+            LoanTransaction loanTransaction = installment.getLoanTransaction();
+            loanTransaction.setLoan(loan);
+            loanTransaction.setStartDate(LocalDateTime.of(2025, 1, 31, 10, 0));
+
+            List<Installment> schedule = installmentService.createSchedule(loanTransaction);
+
+            assertThat(schedule).extracting(Installment::getDueDate).containsExactly(
+                    LocalDateTime.of(2025, 2, 28, 10, 0),
+                    LocalDateTime.of(2025, 3, 31, 10, 0),
+                    LocalDateTime.of(2025, 4, 30, 10, 0)
+            );
+            assertThat(schedule).allSatisfy(i -> {
+                assertThat(i.isPaid()).isFalse();
+                assertThat(i.getLoanTransaction()).isSameAs(loanTransaction);
             });
+            verify(installmentRepository, times(1)).insertAll(schedule);
+            verifyNoMoreInteractions(installmentRepository);
         }
     }
 
     @Nested
-    @DisplayName("Find Not Paid Installment By LoanTransactionId")
-    class FindNotPaidInstallmentTests {
+    @DisplayName("Lock Payable Installment")
+    class LockPayableInstallmentTests {
         @Test
-        @DisplayName("should return last not paid installment successfully")
-        void shouldReturnNotPaidInstallment() {
+        @DisplayName("should return the locked payable installment successfully")
+        void shouldReturnPayableInstallment() {
             withFoundInstallment(() -> {
-                Installment res = installmentService.findNotPaidInstallmentByLoanTransactionId("loan1");
+                Installment res = installmentService.lockPayableInstallment("loan1", "user1");
                 assertThat(res).isEqualTo(installment);
             });
         }
@@ -112,7 +106,7 @@ class InstallmentServiceTest {
         void shouldThrowWhenNotFound() {
             withMissingInstallment(() -> {
                 assertThatThrownBy(() ->
-                        installmentService.findNotPaidInstallmentByLoanTransactionId("loan1"))
+                        installmentService.lockPayableInstallment("loan1", "user1"))
                         .isInstanceOf(NotFoundException.class)
                         .hasMessage("Installment not found");
             });
@@ -1,6 +1,7 @@
 package com.lending.app.service;
 
 import com.lending.app.application.service.impl.LoanServiceImpl;
+import com.lending.app.config.AggregateCache;
 import com.lending.app.exception.NotFoundException;
 import com.lending.app.mapper.LoanMapper;
 import com.lending.app.model.entity.Loan;
@@ -21,7 +22,9 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,6 +38,8 @@ class LoanServiceTest {
     private LoanRepository loanRepository;
     @Mock
     private LoanMapper loanMapper;
+    @Mock
+    private AggregateCache<LoanMessage> loanAggregateCache;
 
     @InjectMocks
     private LoanServiceImpl loanService;
@@ -74,6 +79,7 @@ class LoanServiceTest {
                 assertThat(res).isEqualTo(loanMessage);
                 verify(loanRepository).save(loan);
                 verify(loanMapper).toMessage(loan);
+                verify(loanAggregateCache).put("loan1", loanMessage);
             }
         }
     }
@@ -118,6 +124,7 @@ class LoanServiceTest {
             loanService.delete("loan1");
 
             verify(loanRepository).softDeleteById("loan1");
+            verify(loanAggregateCache).remove("loan1");
         }
 
         @Test
@@ -189,6 +196,16 @@ class LoanServiceTest {
             assertThat(res.loanMessages()).containsExactly(loanMessage);
         }
 
+        @Test
+        void shouldServeCachedAggregateWithoutQuerying() {
+            when(loanAggregateCache.getAll()).thenReturn(Optional.of(new AggregateCache.Snapshot<>(Set.of(loanMessage), Map.of())));
+
+            LoanMessageSet res = loanService.getAll();
+
+            assertThat(res.loanMessages()).containsExactly(loanMessage);
+            verifyNoInteractions(loanRepository);
+        }
+
         @Test
         void shouldReturnEmptySetWhenNoLoans() {
             when(loanRepository.findAll()).thenReturn(List.of());
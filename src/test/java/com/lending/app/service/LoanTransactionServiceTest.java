@@ -1,11 +1,13 @@
 package com.lending.app.service;
 
 import com.lending.app.application.service.impl.LoanTransactionServiceImpl;
+import com.lending.app.exception.InvalidException;
 import com.lending.app.exception.NotFoundException;
-import com.lending.app.mapper.LoanTransactionMapper;
 import com.lending.app.model.entity.Loan;
 import com.lending.app.model.entity.LoanTransaction;
 import com.lending.app.model.entity.User;
+import com.lending.app.model.record.base.CursorPage;
+import com.lending.app.model.record.loan.LoanSummaryMessage;
 import com.lending.app.model.record.loan.UserLoanTransactionMessage;
 import com.lending.app.repository.LoanTransactionRepository;
 import com.lending.app.util.SecurityUtils;
@@ -19,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -36,9 +39,6 @@ class LoanTransactionServiceTest {
     @Mock
     private LoanTransactionRepository repository;
 
-    @Mock
-    private LoanTransactionMapper loanTransactionMapper;
-
     @InjectMocks
     private LoanTransactionServiceImpl service;
 
@@ -103,47 +103,81 @@ class LoanTransactionServiceTest {
     @DisplayName("Find User Loan Transactions By User ID")
     class FindUserLoanTransactionsByUserIdTests {
 
+        private UserLoanTransactionMessage message(String id, LocalDateTime startDate) {
+            return new UserLoanTransactionMessage(
+                    id,
+                    new LoanSummaryMessage("loan1", "Loan", 1000, 10, 100),
+                    500,
+                    startDate,
+                    null
+            );
+        }
+
         @Test
-        void shouldReturnUserLoanTransactions() {
+        void shouldReturnFirstPageWithoutCursorOnLastPage() {
             String userId = "user1";
-            UserLoanTransactionMessage expectedMessage = new UserLoanTransactionMessage(
-                    "tx1",
-                    transaction.getLoan(),
-                    transaction.getPaidAmount(),
-                    transaction.getStartDate(),
-                    transaction.getEndDate()
-            );
+            UserLoanTransactionMessage expectedMessage = message("tx1", transaction.getStartDate());
+
+            try (MockedStatic<SecurityUtils> mocked = Mockito.mockStatic(SecurityUtils.class)) {
+                mocked.when(SecurityUtils::getCurrentUserId).thenReturn(userId);
+                when(repository.findFirstPageByBorrowerId(userId, Limit.of(3))).thenReturn(List.of(expectedMessage));
+
+                CursorPage<UserLoanTransactionMessage> result = service.findUserLoanTransactionsByUserId(null, 2);
+
+                assertThat(result.items()).containsExactly(expectedMessage);
+                assertThat(result.nextCursor()).isNull();
+                verify(repository, times(1)).findFirstPageByBorrowerId(userId, Limit.of(3));
+            }
+        }
+
+        @Test
+        void shouldReturnCursorThatResumesAfterLastItem() {
+            String userId = "user1";
+            LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+            UserLoanTransactionMessage newest = message("tx3", now);
+            UserLoanTransactionMessage middle = message("tx2", now.minusDays(1));
+            UserLoanTransactionMessage oldest = message("tx1", now.minusDays(2));
 
             try (MockedStatic<SecurityUtils> mocked = Mockito.mockStatic(SecurityUtils.class)) {
                 mocked.when(SecurityUtils::getCurrentUserId).thenReturn(userId);
-                when(repository.findByUserId(userId)).thenReturn(Collections.singletonList(transaction));
-                when(loanTransactionMapper.toMessage(transaction)).thenReturn(expectedMessage);
-
-                List<UserLoanTransactionMessage> result = service.findUserLoanTransactionsByUserId();
-
-                assertThat(result).isNotNull().hasSize(1);
-                assertThat(result.getFirst().loanTransactionId()).isEqualTo(expectedMessage.loanTransactionId());
-                assertThat(result.getFirst().loan()).isEqualTo(expectedMessage.loan());
-                assertThat(result.getFirst().paidAmount()).isEqualTo(expectedMessage.paidAmount());
-                assertThat(result.getFirst().startDate()).isEqualTo(expectedMessage.startDate());
-                verify(repository, times(1)).findByUserId(userId);
-                verify(loanTransactionMapper, times(1)).toMessage(transaction);
+                when(repository.findFirstPageByBorrowerId(userId, Limit.of(3))).thenReturn(List.of(newest, middle, oldest));
+                when(repository.findPageByBorrowerIdBefore(userId, middle.startDate(), "tx2", Limit.of(3)))
+                        .thenReturn(List.of(oldest));
+
+                CursorPage<UserLoanTransactionMessage> first = service.findUserLoanTransactionsByUserId(null, 2);
+                CursorPage<UserLoanTransactionMessage> second = service.findUserLoanTransactionsByUserId(first.nextCursor(), 2);
+
+                assertThat(first.items()).containsExactly(newest, middle);
+                assertThat(first.nextCursor()).isNotNull();
+                assertThat(second.items()).containsExactly(oldest);
+                assertThat(second.nextCursor()).isNull();
             }
         }
 
         @Test
-        void shouldReturnEmptyListWhenNoTransactions() {
+        void shouldReturnEmptyPageWhenNoTransactions() {
             String userId = "user1";
             try (MockedStatic<SecurityUtils> mocked = Mockito.mockStatic(SecurityUtils.class)) {
                 mocked.when(SecurityUtils::getCurrentUserId).thenReturn(userId);
-                when(repository.findByUserId(userId)).thenReturn(Collections.emptyList());
+                when(repository.findFirstPageByBorrowerId(userId, Limit.of(11))).thenReturn(Collections.emptyList());
 
-                List<UserLoanTransactionMessage> result = service.findUserLoanTransactionsByUserId();
+                CursorPage<UserLoanTransactionMessage> result = service.findUserLoanTransactionsByUserId(null, 10);
+
+                assertThat(result.items()).isEmpty();
+                assertThat(result.nextCursor()).isNull();
+            }
+        }
+
+        @Test
+        void shouldRejectMalformedCursor() {
+            try (MockedStatic<SecurityUtils> mocked = Mockito.mockStatic(SecurityUtils.class)) {
+                mocked.when(SecurityUtils::getCurrentUserId).thenReturn("user1");
 
-                assertThat(result).isNotNull().isEmpty();
-                verify(repository, times(1)).findByUserId(userId);
-                verifyNoInteractions(loanTransactionMapper);
+                assertThatThrownBy(() -> service.findUserLoanTransactionsByUserId("not-a-cursor", 10))
+                        .isInstanceOf(InvalidException.class)
+                        .hasMessage("Invalid cursor");
+                verifyNoInteractions(repository);
             }
         }
     }
-}
\ No newline at end of file
+}
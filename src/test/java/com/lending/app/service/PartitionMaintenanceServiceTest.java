@@ -0,0 +1,106 @@
+package com.lending.app.service;
+
+import com.lending.app.application.service.impl.PartitionMaintenanceServiceImpl;
+import com.lending.app.model.enums.PartitionedTable;
+import com.lending.app.repository.PartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartitionMaintenanceService Tests")
+class PartitionMaintenanceServiceTest {
+
+    @Mock
+    private PartitionRepository partitionRepository;
+
+    private PartitionMaintenanceServiceImpl partitionMaintenanceService;
+
+    @BeforeEach
+    void setUp() {
+        partitionMaintenanceService = new PartitionMaintenanceServiceImpl(partitionRepository, 2, 12, 5_000);
+    }
+
+    @Nested
+    @DisplayName("Create Partitions")
+    class CreateTests {
+
+        @Test
+        @DisplayName("should create the current and premade months and every month found in the default partition")
+        void shouldCreateUpcomingAndDefaultMonths() {
+            YearMonth current = YearMonth.now();
+            YearMonth farAhead = current.plusMonths(30);
+            when(partitionRepository.findMonthsInDefault(PartitionedTable.LOAN_TRANSACTION)).thenReturn(List.of());
+            when(partitionRepository.findMonthsInDefault(PartitionedTable.INSTALLMENT)).thenReturn(List.of(farAhead));
+            when(partitionRepository.createMonth(any(), any())).thenReturn(true);
+            when(partitionRepository.createMonth(PartitionedTable.LOAN_TRANSACTION, current)).thenReturn(false);
+
+            int created = partitionMaintenanceService.createPartitions();
+
+            assertThat(created).isEqualTo(6);
+            for (PartitionedTable table : PartitionedTable.values()) {
+                verify(partitionRepository).createMonth(table, current);
+                verify(partitionRepository).createMonth(table, current.plusMonths(1));
+                verify(partitionRepository).createMonth(table, current.plusMonths(2));
+            }
+            verify(partitionRepository).createMonth(PartitionedTable.INSTALLMENT, farAhead);
+            verify(partitionRepository, never()).createMonth(any(), eq(current.plusMonths(3)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Detach Closed Partitions")
+    class DetachTests {
+
+        @Test
+        @DisplayName("should detach only closed months past retention")
+        void shouldDetachClosedMonthsPastRetention() {
+            YearMonth old = YearMonth.now().minusMonths(20);
+            YearMonth stillOpen = YearMonth.now().minusMonths(18);
+            YearMonth recent = YearMonth.now().minusMonths(6);
+            when(partitionRepository.findMonths(PartitionedTable.LOAN_TRANSACTION)).thenReturn(List.of());
+            when(partitionRepository.findMonths(PartitionedTable.INSTALLMENT)).thenReturn(List.of(old, stillOpen, recent));
+            when(partitionRepository.isClosed(eq(PartitionedTable.INSTALLMENT), eq(old), any(LocalDateTime.class))).thenReturn(true);
+            when(partitionRepository.isClosed(eq(PartitionedTable.INSTALLMENT), eq(stillOpen), any(LocalDateTime.class))).thenReturn(false);
+
+            int detached = partitionMaintenanceService.detachClosedPartitions();
+
+            assertThat(detached).isEqualTo(1);
+            verify(partitionRepository).detach(PartitionedTable.INSTALLMENT, old, Duration.ofSeconds(5));
+            verify(partitionRepository, never()).detach(any(), eq(stillOpen), any());
+            verify(partitionRepository, never()).isClosed(any(), eq(recent), any());
+        }
+
+        @Test
+        @DisplayName("should keep going when a detach times out on its lock")
+        void shouldContinueAfterFailedDetach() {
+            YearMonth first = YearMonth.now().minusMonths(30);
+            YearMonth second = YearMonth.now().minusMonths(29);
+            when(partitionRepository.findMonths(PartitionedTable.LOAN_TRANSACTION)).thenReturn(List.of(first, second));
+            when(partitionRepository.findMonths(PartitionedTable.INSTALLMENT)).thenReturn(List.of());
+            when(partitionRepository.isClosed(any(), any(), any())).thenReturn(true);
+            doThrow(new CannotAcquireLockException("lock timeout"))
+                    .when(partitionRepository).detach(PartitionedTable.LOAN_TRANSACTION, first, Duration.ofSeconds(5));
+
+            int detached = partitionMaintenanceService.detachClosedPartitions();
+
+            assertThat(detached).isEqualTo(1);
+            verify(partitionRepository).detach(PartitionedTable.LOAN_TRANSACTION, second, Duration.ofSeconds(5));
+        }
+    }
+}
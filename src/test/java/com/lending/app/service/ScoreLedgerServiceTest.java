@@ -0,0 +1,78 @@
+package com.lending.app.service;
+
+import com.lending.app.application.service.impl.ScoreLedgerServiceImpl;
+import com.lending.app.model.entity.ScoreLedgerEntry;
+import com.lending.app.model.enums.ScoreTransactionType;
+import com.lending.app.repository.ScoreLedgerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScoreLedgerService Tests")
+class ScoreLedgerServiceTest {
+
+    @Mock
+    private ScoreLedgerRepository scoreLedgerRepository;
+
+    private ScoreLedgerServiceImpl scoreLedgerService;
+
+    @BeforeEach
+    void setUp() {
+        scoreLedgerService = new ScoreLedgerServiceImpl(scoreLedgerRepository);
+    }
+
+    @Nested
+    @DisplayName("Record")
+    class RecordTests {
+
+        @AfterEach
+        void clearSynchronization() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("should insert immediately outside a transaction")
+        void shouldInsertImmediatelyWithoutTransaction() {
+            scoreLedgerService.record("01A", ScoreTransactionType.SIGNUP_BONUS, 30, null);
+
+            verify(scoreLedgerRepository).insertAll(anyList());
+        }
+
+        @Test
+        @DisplayName("should buffer entries and write them in one batch before commit")
+        @SuppressWarnings("unchecked")
+        void shouldBatchEntriesBeforeCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            scoreLedgerService.record("01A", ScoreTransactionType.TRANSFER, -45, "01TX");
+            scoreLedgerService.record("01B", ScoreTransactionType.GUARANTEE_PLEDGE, -5, "01TX");
+            verify(scoreLedgerRepository, never()).insertAll(anyList());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.beforeCommit(false);
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+
+            ArgumentCaptor<List<ScoreLedgerEntry>> batch = ArgumentCaptor.forClass(List.class);
+            verify(scoreLedgerRepository).insertAll(batch.capture());
+            assertThat(batch.getValue()).extracting(ScoreLedgerEntry::getUserId).containsExactly("01A", "01B");
+        }
+    }
+}
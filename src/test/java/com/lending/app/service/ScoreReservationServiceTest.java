@@ -0,0 +1,77 @@
+package com.lending.app.service;
+
+import com.lending.app.application.service.UserService;
+import com.lending.app.application.service.impl.ScoreReservationServiceImpl;
+import com.lending.app.exception.InsufficientScoreException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScoreReservationService Tests")
+class ScoreReservationServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private ScoreReservationServiceImpl scoreReservationService;
+
+    @Nested
+    @DisplayName("Try Reserve")
+    class TryReserveTests {
+
+        @Test
+        @DisplayName("should delegate to conditional reservation")
+        void shouldDelegateToConditionalReservation() {
+            when(userService.reserveScore("01A", 50)).thenReturn(true);
+
+            assertThat(scoreReservationService.tryReserve("01A", 50)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reserve")
+    class ReserveTests {
+
+        @Test
+        @DisplayName("should reserve users in ascending id order regardless of input order")
+        void shouldReserveInIdOrder() {
+            Map<String, Integer> amounts = new LinkedHashMap<>();
+            amounts.put("01Z", 45);
+            amounts.put("01A", 5);
+            when(userService.reserveScore(anyString(), anyInt())).thenReturn(true);
+
+            scoreReservationService.reserve(amounts);
+
+            InOrder inOrder = inOrder(userService);
+            inOrder.verify(userService).reserveScore("01A", 5);
+            inOrder.verify(userService).reserveScore("01Z", 45);
+        }
+
+        @Test
+        @DisplayName("should throw InsufficientScoreException and stop when a user cannot cover the amount")
+        void shouldThrowWhenReservationRejected() {
+            Map<String, Integer> amounts = Map.of("01A", 5, "01Z", 45);
+            when(userService.reserveScore("01A", 5)).thenReturn(false);
+
+            assertThatThrownBy(() -> scoreReservationService.reserve(amounts))
+                    .isInstanceOf(InsufficientScoreException.class);
+            verify(userService, never()).reserveScore("01Z", 45);
+        }
+    }
+}
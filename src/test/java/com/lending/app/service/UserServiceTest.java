@@ -1,5 +1,6 @@
 package com.lending.app.service;
 
+import com.lending.app.config.AggregateCache;
 import com.lending.app.exception.AlreadyExistsException;
 import com.lending.app.exception.NotFoundException;
 import com.lending.app.mapper.UserMapper;
@@ -8,7 +9,9 @@ import com.lending.app.model.enums.Role;
 import com.lending.app.model.record.user.CreateUserCommand;
 import com.lending.app.model.record.user.UpdateUserCommand;
 import com.lending.app.model.record.user.UserMessage;
+import com.lending.app.model.record.user.UserMessageSet;
 import com.lending.app.repository.UserRepository;
+import com.lending.app.security.ActiveUserCache;
 import com.lending.app.application.service.impl.UserServiceImpl;
 import com.lending.app.util.SecurityUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,9 +23,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,6 +49,12 @@ class UserServiceTest {
     private UserServiceImpl userService;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private ActiveUserCache activeUserCache;
+    @Mock
+    private AggregateCache<UserMessage> userAggregateCache;
 
 
     private User user;
@@ -196,6 +210,8 @@ class UserServiceTest {
                 userService.delete("01HUID");
 
                 verify(userRepository).softDeleteById("01HUID");
+                verify(activeUserCache).revoke("01HUID");
+                verify(userAggregateCache).remove("01HUID");
             });
         }
 
@@ -215,17 +231,109 @@ class UserServiceTest {
     class ChangeScoreTests {
 
         @Test
-        @DisplayName("should change user score correctly")
+        @DisplayName("should change user score with a single atomic update")
         void shouldChangeScore() {
-            user.setScore(10);
+            when(userRepository.addScore("01HUID", 5)).thenReturn(1);
+
+            userService.changeScore("01HUID", 5);
+
+            verify(userRepository).addScore("01HUID", 5);
+            verify(userAggregateCache).markStale(List.of("01HUID"));
+            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should change scores in one batch and evict the affected cache entries")
+        void shouldChangeScoresInBatch() {
+            Cache users = mock(Cache.class);
+            when(cacheManager.getCache("users")).thenReturn(users);
+            Map<String, Integer> deltas = Map.of("01A", 5, "01B", 1);
+
+            userService.changeScores(deltas);
+
+            verify(userRepository).addScores(deltas);
+            verify(users).evict("01A");
+            verify(users).evict("01B");
+            verify(userAggregateCache).markStale(deltas.keySet());
+        }
+
+        @Test
+        @DisplayName("should throw NotFoundException when changing score of a missing user")
+        void shouldThrowWhenChangeScoreUserNotFound() {
+            when(userRepository.addScore("01MISSING", 5)).thenReturn(0);
+
+            assertThatThrownBy(() -> userService.changeScore("01MISSING", 5)).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reserve Score")
+    class ReserveScoreTests {
+
+        @Test
+        @DisplayName("should return true when the conditional update debits the user")
+        void shouldReserveScore() {
+            when(userRepository.reserveScore("01HUID", 50)).thenReturn(1);
 
-            when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-            when(userRepository.save(user)).thenReturn(user);
+            assertThat(userService.reserveScore("01HUID", 50)).isTrue();
+            verify(userRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("should return false when the user has insufficient score")
+        void shouldRejectInsufficientScore() {
+            when(userRepository.reserveScore("01HUID", 50)).thenReturn(0);
+            when(userRepository.existsById("01HUID")).thenReturn(true);
+
+            assertThat(userService.reserveScore("01HUID", 50)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should throw NotFoundException when the user does not exist")
+        void shouldThrowWhenReserveUserNotFound() {
+            when(userRepository.reserveScore("01MISSING", 50)).thenReturn(0);
+            when(userRepository.existsById("01MISSING")).thenReturn(false);
+
+            assertThatThrownBy(() -> userService.reserveScore("01MISSING", 50)).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get All")
+    class GetAllTests {
 
-            userService.changeScore(user, 5);
+        @Test
+        @DisplayName("should build and cache the aggregate on a miss")
+        void shouldLoadAndCacheOnMiss() {
+            when(userAggregateCache.getAll()).thenReturn(Optional.empty());
+            when(userAggregateCache.version()).thenReturn(7L);
+            when(userRepository.findAll()).thenReturn(List.of(user));
+            when(userMapper.toMessage(user)).thenReturn(userMessage);
 
-            assertThat(user.getScore()).isEqualTo(15);
-            verify(userRepository).save(user);
+            UserMessageSet res = userService.getAll();
+
+            assertThat(res.users()).containsExactly(userMessage);
+            verify(userAggregateCache).putAll(Map.of("01HUID", userMessage), 7L);
+        }
+
+        @Test
+        @DisplayName("should reload only stale entries and write them back against the marks read")
+        void shouldReloadStaleEntries() {
+            UserMessage other = new UserMessage("01OTHER", "reza", "reza@example.com", 3);
+            UserMessage refreshed = new UserMessage("01HUID", "ali", "ali@example.com", 15);
+            when(userAggregateCache.getAll()).thenReturn(Optional.of(new AggregateCache.Snapshot<>(Set.of(other), Map.of("01HUID", "\u00003", "01GONE", "\u00004"))));
+            when(userRepository.findAllActiveByIdIn(Set.of("01HUID", "01GONE"))).thenReturn(List.of(user));
+            when(userMapper.toMessage(user)).thenReturn(refreshed);
+
+            UserMessageSet res = userService.getAll();
+
+            assertThat(res.users()).containsExactlyInAnyOrder(other, refreshed);
+            verify(userAggregateCache).replaceStale("01HUID", refreshed, "\u00003");
+            verify(userAggregateCache).replaceStale("01GONE", null, "\u00004");
+            verify(userAggregateCache, never()).put(any(), any());
+            verify(userAggregateCache, never()).remove(any());
+            verify(userRepository, never()).findAll();
         }
     }
 
@@ -0,0 +1,80 @@
+package com.lending.app.util;
+
+import com.lending.app.model.entity.Installment;
+import com.lending.app.model.entity.Loan;
+import com.lending.app.model.entity.LoanTransaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CalculatorUtils Tests")
+class CalculatorUtilsTest {
+
+    private static Installment installment(Loan loan, LocalDateTime dueDate, LocalDateTime paymentDate) {
+        LoanTransaction transaction = new LoanTransaction();
+        transaction.setLoan(loan);
+        Installment installment = new Installment();
+        installment.setLoanTransaction(transaction);
+        installment.setDueDate(dueDate);
+        installment.setPaymentDate(paymentDate);
+        return installment;
+    }
+
+    private static Loan loan(int awardScore, int numberOfInstallments) {
+        Loan loan = new Loan();
+        loan.setAwardScore(awardScore);
+        loan.setNumberOfInstallments(numberOfInstallments);
+        return loan;
+    }
+
+    @Nested
+    @DisplayName("Installment Bonus")
+    class InstallmentBonus {
+
+        @Test
+        @DisplayName("should pay the base bonus on the due date")
+        void shouldPayBaseBonusOnTime() {
+            LocalDateTime due = LocalDateTime.now();
+
+            assertThat(CalculatorUtils.calculateInstallmentBonus(installment(loan(120, 12), due, due))).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("should lower the bonus by a percent per day late")
+        void shouldLowerBonusWhenLate() {
+            LocalDateTime due = LocalDateTime.now();
+
+            assertThat(CalculatorUtils.calculateInstallmentBonus(installment(loan(1200, 12), due, due.plusDays(10)))).isEqualTo(90);
+            assertThat(CalculatorUtils.calculateInstallmentBonus(installment(loan(1200, 12), due, due.plusDays(200)))).isZero();
+        }
+
+        @Test
+        @DisplayName("should raise the bonus for at most the capped number of days early")
+        void shouldCapEarlyBonus() {
+            LocalDateTime due = LocalDateTime.now();
+
+            assertThat(CalculatorUtils.calculateInstallmentBonus(installment(loan(1200, 12), due, due.minusDays(10)))).isEqualTo(110);
+            assertThat(CalculatorUtils.calculateInstallmentBonus(installment(loan(1200, 12), due, due.minusDays(300)))).isEqualTo(130);
+        }
+
+        @Test
+        @DisplayName("should pay no more than the capped factor for prepaying a whole schedule")
+        void shouldCapPrepaidSchedule() {
+            Loan loan = loan(1200, 12);
+            LocalDateTime start = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+            int total = 0;
+            for (int month = 1; month <= loan.getNumberOfInstallments(); month++) {
+                total += CalculatorUtils.calculateInstallmentBonus(installment(loan, start.plusMonths(month), start));
+            }
+
+            // Every installment is at least 31 days early, so each earns the capped 130; uncapped, the last
+            // one alone would earn over 450.
+            assertThat(total).isEqualTo(12 * 130);
+        }
+    }
+}
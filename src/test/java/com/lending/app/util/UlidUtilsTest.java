@@ -0,0 +1,79 @@
+package com.lending.app.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UlidUtils Tests")
+class UlidUtilsTest {
+
+    @Nested
+    @DisplayName("Generation")
+    class Generation {
+
+        @Test
+        @DisplayName("should generate strictly increasing ids on one thread")
+        void shouldBeMonotonicPerThread() {
+            String previous = UlidUtils.nextUlid();
+            for (int i = 0; i < 100_000; i++) {
+                String next = UlidUtils.nextUlid();
+                assertThat(next).isGreaterThan(previous);
+                previous = next;
+            }
+        }
+
+        @Test
+        @DisplayName("should generate valid ids that are unique across threads")
+        void shouldBeUniqueAcrossThreads() throws Exception {
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    futures.add(pool.submit(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            ids.add(UlidUtils.nextUlid());
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            assertThat(ids).hasSize(80_000).allMatch(UlidUtils::isValid);
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("should round-trip through uuid and keep the order of the text form")
+        void shouldRoundTripThroughUuid() {
+            String first = UlidUtils.nextUlid();
+            String second = UlidUtils.nextUlid();
+
+            assertThat(UlidUtils.fromUuid(UlidUtils.toUuid(first))).isEqualTo(first);
+            assertThat(UlidUtils.toUuid(first).toString()).isLessThan(UlidUtils.toUuid(second).toString());
+        }
+
+        @Test
+        @DisplayName("should reject strings that are not ULIDs")
+        void shouldRejectInvalid() {
+            assertThat(UlidUtils.isValid(UlidUtils.MIN)).isTrue();
+            assertThat(UlidUtils.isValid("someone-else")).isFalse();
+            assertThat(UlidUtils.isValid(null)).isFalse();
+        }
+    }
+}